@@ -46,29 +46,42 @@ public class GameController implements Observer{
     }
 
 
-    // Verifica se foi cheque mate, congelamento, ou se o jogo continua
+    // Verifica se foi cheque mate, congelamento, empate, ou se o jogo continua.
+    // Usa a situação calculada uma única vez por posição pelo modelo (getGameStatus)
     public void checkEndOfGame() {
-        if (model.isCheckMate()) {
-            JOptionPane.showMessageDialog(view, "Xeque-mate! O jogador " + (model.isWhiteTurn() ? "branco" : "preto") + " perdeu.");
-            // Fecha a janela atual
-            if (consoleView != null) {
-                consoleView.dispose();
-            }
-
-            // Abre a tela inicial
-            new StartView();
-        } else if (model.isStalelMate()) {
-            JOptionPane.showMessageDialog(view, "Empate por congelamento!");
-            // Fecha a janela atual
-            if (consoleView != null) {
-                consoleView.dispose();
-            }
+        switch (model.getGameStatus()) {
+            case CHECKMATE:
+                endGame("Xeque-mate! O jogador " + (model.isWhiteTurn() ? "branco" : "preto") + " perdeu.");
+                break;
+            case STALEMATE:
+                endGame("Empate por congelamento!");
+                break;
+            case DRAW_INSUFFICIENT_MATERIAL:
+                endGame("Empate por material insuficiente!");
+                break;
+            case DRAW_REPETITION:
+                endGame("Empate por repetição tripla de posição!");
+                break;
+            case DRAW_FIFTY_MOVES:
+                endGame("Empate por regra dos 50 lances!");
+                break;
+            default:
+                if (consoleView != null) {
+                    consoleView.updateTurn(); // Atualiza a barra de menu com a cor do próximo turno
+                }
+        }
+    }
 
-            // Abre a tela inicial
-            new StartView();
-        } else if (consoleView != null) {
-            consoleView.updateTurn(); // Atualiza a barra de menu com a cor do próximo turno
+    // Mostra a mensagem de fim de partida, fecha a janela atual e volta para a tela inicial
+    private void endGame(String message) {
+        JOptionPane.showMessageDialog(view, message);
+        // Fecha a janela atual
+        if (consoleView != null) {
+            consoleView.dispose();
         }
+
+        // Abre a tela inicial
+        new StartView();
     }
 
     // Faz a promocao do peao recebendo como parametro o tipo da peca que ele ira se transformar
@@ -80,8 +93,7 @@ public class GameController implements Observer{
 
     //Reseta o modelo do jogo para o estado inicial, atualiza as referências nas views e notifica componentes 
     public void restartGame() {
-        ChessModel.resetInstance();
-        this.model = ChessModel.getInstance();
+        this.model = new ChessModel();
 
         GameView newGameView = new GameView(model);
         newGameView.setController(this);
@@ -136,8 +148,7 @@ public class GameController implements Observer{
                 reader.close();
 
                 if (fen != null && !fen.trim().isEmpty()) {
-                    ChessModel.resetInstance();
-                    ChessModel newModel = ChessModel.getInstance();
+                    ChessModel newModel = new ChessModel();
                     newModel.loadFEN(fen.trim());
 
                     JOptionPane.showMessageDialog(parent, "Partida carregada com sucesso!");
@@ -157,16 +168,7 @@ public class GameController implements Observer{
     // retornar a mensagem de vitória para o jogador oposto.
     public void desist() {
         String vencedor = model.isWhiteTurn() ? "pretas" : "brancas";
-        JOptionPane.showMessageDialog(view,
-            "Jogador das " + (model.isWhiteTurn() ? "brancas" : "pretas") +
+        endGame("Jogador das " + (model.isWhiteTurn() ? "brancas" : "pretas") +
             " desistiu!\nVitória das " + vencedor + ".");
-
-        // Fecha a janela atual
-        if (consoleView != null) {
-            consoleView.dispose();
-        }
-
-        // Abre a tela inicial
-        new StartView();
     }
 }
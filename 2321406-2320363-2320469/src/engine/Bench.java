@@ -0,0 +1,104 @@
+package engine;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+import model.ChessModel;
+
+/**
+ * Benchmark reprodutível da busca: um conjunto fixo de posições buscado até a mesma profundidade.
+ * Mostra, por posição e no total, os nós, o tempo e os nós por segundo, além do lance escolhido
+ * e das estatísticas da ordenação de lances e da tabela de transposição.
+ * Com "ablacao", busca o conjunto com cada heurística desligada e compara o total de nós; com um
+ * tempo depois de "ablacao", mostra também a profundidade média alcançada nesse tempo.
+ *
+ * Uso: java engine.Bench [profundidade] [tabela em MB] [ablacao [milissegundos por posição]]
+ */
+public class Bench {
+
+    public static final String[] POSITIONS = {
+        "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+        "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+        "r1bqkb1r/pppp1ppp/2n2n2/4p3/2B1P3/5N2/PPPP1PPP/RNBQK2R w KQkq - 4 4",
+        "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10",
+        "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+        "6k1/5ppp/8/8/8/8/5PPP/3R2K1 w - - 0 1"
+    };
+
+    public static final int DEFAULT_DEPTH = 5;
+
+    public static void main(String[] args) {
+        int depth = args.length > 0 && args[0].matches("\\d+") ? Integer.parseInt(args[0]) : DEFAULT_DEPTH;
+        int hashMegabytes = args.length > 1 && args[1].matches("\\d+") ? Integer.parseInt(args[1]) : Search.DEFAULT_HASH_MB;
+        int ablation = Arrays.asList(args).indexOf("ablacao");
+
+        if (ablation < 0) {
+            run(EnumSet.allOf(SearchFeature.class), depth, hashMegabytes, true);
+            return;
+        }
+        long millis = ablation + 1 < args.length ? Long.parseLong(args[ablation + 1]) : 0;
+        if (millis > 0) {
+            // Aquecimento do compilador JIT, para não prejudicar a primeira medida por tempo
+            averageDepth(EnumSet.allOf(SearchFeature.class), millis, hashMegabytes);
+        }
+
+        // Todas as heurísticas ligadas e depois cada uma desligada, comparando o total de nós
+        // (e, com tempo informado, a profundidade média alcançada nesse tempo por posição)
+        long baseline = run(EnumSet.allOf(SearchFeature.class), depth, hashMegabytes, false);
+        System.out.print("Todas as heurísticas: " + baseline + " nós");
+        System.out.println(millis > 0 ? String.format(", profundidade %.2f", averageDepth(EnumSet.allOf(SearchFeature.class), millis, hashMegabytes)) : "");
+        for (SearchFeature feature : SearchFeature.values()) {
+            Set<SearchFeature> features = EnumSet.allOf(SearchFeature.class);
+            features.remove(feature);
+            long nodes = run(features, depth, hashMegabytes, false);
+            System.out.printf("Sem %s: %d nós (%+.1f%%)", feature.getDescription(), nodes, 100.0 * (nodes - baseline) / baseline);
+            System.out.println(millis > 0 ? String.format(", profundidade %.2f", averageDepth(features, millis, hashMegabytes)) : "");
+        }
+    }
+
+    // Profundidade completada média nas posições com "millis" milissegundos por posição
+    private static double averageDepth(Set<SearchFeature> features, long millis, int hashMegabytes) {
+        Search search = new Search(new TranspositionTable(hashMegabytes));
+        search.setFeatures(features);
+        int total = 0;
+        for (String fen : POSITIONS) {
+            ChessModel position = new ChessModel();
+            position.loadFEN(fen);
+            total += search.search(position, SearchLimits.time(millis)).getDepth();
+        }
+        return (double) total / POSITIONS.length;
+    }
+
+    /**
+     * Busca todas as posições com as heurísticas informadas (numa tabela nova) e retorna o total
+     * de nós. Com "verbose", mostra o resultado, a ordenação e a tabela de cada posição.
+     */
+    private static long run(Set<SearchFeature> features, int depth, int hashMegabytes, boolean verbose) {
+        Search search = new Search(new TranspositionTable(hashMegabytes));
+        search.setFeatures(features);
+        long totalNodes = 0;
+        long totalTime = 0;
+        for (String fen : POSITIONS) {
+            ChessModel position = new ChessModel();
+            position.loadFEN(fen);
+
+            SearchResult result = search.search(position, SearchLimits.depth(depth));
+            totalNodes += result.getNodes();
+            totalTime += result.getTimeMillis();
+            if (verbose) {
+                System.out.println(fen);
+                System.out.println("  " + result);
+                System.out.printf("  ramificação %.2f, cortes no primeiro lance %d‰%n",
+                    search.getBranchingFactor(), search.getFirstMoveCutoffPermille());
+                System.out.println("  " + search.getTable().stats());
+                System.out.println("  " + search.getPawnTable().stats());
+            }
+        }
+        if (verbose) {
+            System.out.println("Total: " + totalNodes + " nós em " + totalTime + " ms, "
+                + (totalTime <= 0 ? totalNodes * 1000 : totalNodes * 1000 / totalTime) + " nós/s");
+        }
+        return totalNodes;
+    }
+}
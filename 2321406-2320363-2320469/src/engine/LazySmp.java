@@ -0,0 +1,157 @@
+package engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import model.ChessModel;
+import model.Move;
+
+/**
+ * Busca paralela "Lazy SMP": várias threads buscam a mesma raiz ao mesmo tempo, cada uma com a
+ * sua própria cópia da posição e as suas próprias listas de lances (uma instância de Search por
+ * thread). As threads só se comunicam pela tabela de transposição compartilhada: o que uma já
+ * buscou vira corte ou ordenação para as outras. As threads auxiliares pulam profundidades em
+ * blocos diferentes, para se espalharem pela árvore.
+ * A thread que chamou search é a principal; quando ela termina, as auxiliares são paradas.
+ * Os limites de nós valem para cada thread.
+ *
+ * Uso: java engine.LazySmp [profundidade] [threads...]
+ */
+public class LazySmp {
+
+    private final TranspositionTable table;
+    private final Search[] workers;
+    private final ExecutorService helpers;
+
+    // Cria a busca com o número de threads e o tamanho da tabela compartilhada (em megabytes)
+    public LazySmp(int threads, int hashMegabytes) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Número de threads inválido: " + threads);
+        }
+        table = new TranspositionTable(hashMegabytes);
+        workers = new Search[threads];
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new Search(table);
+        }
+        helpers = threads > 1 ? Executors.newFixedThreadPool(threads - 1) : null;
+    }
+
+    public LazySmp(int threads) {
+        this(threads, Search.DEFAULT_HASH_MB);
+    }
+
+    public int getThreads() {
+        return workers.length;
+    }
+
+    public TranspositionTable getTable() {
+        return table;
+    }
+
+    /**
+     * Busca o melhor lance com todas as threads. Retorna o resultado da thread que completou a
+     * maior profundidade (a principal, em caso de empate), com os nós somados de todas as threads.
+     */
+    public SearchResult search(ChessModel root, SearchLimits limits) {
+        table.newSearch();
+        for (Search worker : workers) {
+            worker.resetStop();
+        }
+
+        List<Future<SearchResult>> futures = new ArrayList<>();
+        for (int i = 1; i < workers.length; i++) {
+            Search worker = workers[i];
+            int thread = i;
+            futures.add(helpers.submit(() -> worker.iterate(root, limits, thread)));
+        }
+
+        SearchResult best = workers[0].iterate(root, limits, 0);
+        for (int i = 1; i < workers.length; i++) {
+            workers[i].stop();
+        }
+
+        long nodes = best.getNodes();
+        for (Future<SearchResult> future : futures) {
+            SearchResult result = join(future);
+            nodes += result.getNodes();
+            if (result.getDepth() > best.getDepth() && result.getBestMove() != Move.NONE) {
+                best = result;
+            }
+        }
+        return new SearchResult(best.getBestMove(), best.getScore(), best.getPv(), best.getDepth(),
+            nodes, best.getTimeMillis());
+    }
+
+    // Pede para todas as threads pararem (pode ser chamado de outra thread)
+    public void stop() {
+        for (Search worker : workers) {
+            worker.stop();
+        }
+    }
+
+    // Encerra as threads auxiliares
+    public void shutdown() {
+        if (helpers != null) {
+            helpers.shutdown();
+        }
+    }
+
+    private static SearchResult join(Future<SearchResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Busca paralela interrompida", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Erro numa thread da busca paralela", e.getCause());
+        }
+    }
+
+    /**
+     * Mede o tempo até a profundidade nas posições do Bench com 1, 2, 4, 8 e 16 threads (ou com as
+     * quantidades informadas) e mostra o ganho em relação a uma thread.
+     */
+    public static void main(String[] args) {
+        int depth = args.length > 0 ? Integer.parseInt(args[0]) : Bench.DEFAULT_DEPTH;
+        List<Integer> threadCounts = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            threadCounts.add(Integer.parseInt(args[i]));
+        }
+        if (threadCounts.isEmpty()) {
+            threadCounts.addAll(List.of(1, 2, 4, 8, 16));
+        }
+        System.out.println("Processadores disponíveis: " + Runtime.getRuntime().availableProcessors());
+
+        // Aquecimento do compilador JIT, para que a primeira medida não saia mais lenta
+        timeToDepth(new LazySmp(1), depth - 1);
+
+        long baseline = 0;
+        for (int threads : threadCounts) {
+            // Cada medida usa uma tabela nova, para que uma não aproveite a busca da outra
+            LazySmp smp = new LazySmp(threads);
+            long start = System.nanoTime();
+            long nodes = timeToDepth(smp, depth);
+            long elapsed = System.nanoTime() - start;
+
+            if (baseline == 0) baseline = elapsed;
+            System.out.printf("%2d threads: profundidade %d em %d ms, %d nós, ganho %.2fx%n",
+                threads, depth, elapsed / 1_000_000, nodes, (double) baseline / elapsed);
+        }
+    }
+
+    // Busca todas as posições do Bench até a profundidade e encerra as threads; retorna o total de nós
+    private static long timeToDepth(LazySmp smp, int depth) {
+        long nodes = 0;
+        for (String fen : Bench.POSITIONS) {
+            ChessModel position = new ChessModel();
+            position.loadFEN(fen);
+            nodes += smp.search(position, SearchLimits.depth(depth)).getNodes();
+        }
+        smp.shutdown();
+        return nodes;
+    }
+}
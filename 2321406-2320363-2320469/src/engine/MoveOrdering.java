@@ -0,0 +1,178 @@
+package engine;
+
+import java.util.Set;
+
+import model.ChessModel;
+import model.Move;
+import model.MoveList;
+import model.PieceType;
+import model.StaticExchange;
+
+/**
+ * Ordenação de lances da busca. Cada lance recebe uma nota e a busca escolhe sempre o de maior
+ * nota ainda não tentado (pickNext), então só é ordenado o trecho da lista realmente usado.
+ * As faixas de nota formam as etapas:
+ *   1. lance da tabela de transposição;
+ *   2. capturas e promoções a dama, por MVV-LVA (vítima mais valiosa, atacante menos valioso);
+ *   3. os dois lances matadores do nível (lances quietos que já causaram corte beta neste ply);
+ *   4. o lance de resposta ao lance anterior do adversário;
+ *   5. os demais lances quietos, pela tabela de histórico [lado][origem][destino];
+ *   6. capturas que perdem material segundo a avaliação estática de trocas (StaticExchange);
+ *   7. promoções a torre, bispo e cavalo.
+ * Cada thread da busca tem a sua própria instância (as tabelas não são compartilhadas).
+ */
+class MoveOrdering {
+
+    private static final int TT_MOVE_SCORE = 1_000_000_000;
+    private static final int CAPTURE_SCORE = 100_000_000;
+    private static final int KILLER_SCORE = 90_000_000;
+    private static final int COUNTER_MOVE_SCORE = 80_000_000;
+    private static final int LOSING_CAPTURE_SCORE = -1_000_000;
+    private static final int UNDER_PROMOTION_SCORE = -10_000_000;
+
+    // Limite absoluto dos valores de histórico (ficam sempre abaixo das faixas acima)
+    static final int MAX_HISTORY = 16384;
+
+    private final int[][] killers = new int[Search.MAX_PLY + 1][2];
+    private final int[][][] history = new int[2][64][64];
+    private final int[][] counterMoves = new int[64][64];
+    private final int[] seeGain = new int[StaticExchange.GAIN_BUFFER_SIZE]; // área de trabalho da SEE
+
+    private boolean useTtMove = true;
+    private boolean useMvvLva = true;
+    private boolean useKillers = true;
+    private boolean useHistory = true;
+    private boolean useCounterMoves = true;
+    private boolean useSee = true;
+
+    void setFeatures(Set<SearchFeature> features) {
+        useTtMove = features.contains(SearchFeature.TT_MOVE);
+        useMvvLva = features.contains(SearchFeature.MVV_LVA);
+        useKillers = features.contains(SearchFeature.KILLERS);
+        useHistory = features.contains(SearchFeature.HISTORY);
+        useCounterMoves = features.contains(SearchFeature.COUNTER_MOVES);
+        useSee = features.contains(SearchFeature.SEE);
+    }
+
+    // Início de uma nova busca: apaga os matadores e reduz o histórico pela metade (envelhecimento)
+    void newSearch() {
+        for (int[] pair : killers) {
+            pair[0] = Move.NONE;
+            pair[1] = Move.NONE;
+        }
+        for (int[][] side : history) {
+            for (int[] from : side) {
+                for (int to = 0; to < 64; to++) {
+                    from[to] /= 2;
+                }
+            }
+        }
+    }
+
+    // Dá uma nota a cada lance da lista (scores[i] corresponde a moves.get(i))
+    void score(ChessModel position, MoveList moves, int[] scores, int ttMove, int ply, int previousMove) {
+        int side = position.isWhiteTurn() ? 0 : 1;
+        int counter = useCounterMoves && previousMove != Move.NONE
+            ? counterMoves[Move.from(previousMove)][Move.to(previousMove)]
+            : Move.NONE;
+
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+            if (useTtMove && move == ttMove) {
+                scores[i] = TT_MOVE_SCORE;
+            } else if (Move.isUnderPromotion(move)) {
+                scores[i] = UNDER_PROMOTION_SCORE;
+            } else if (isTactical(move)) {
+                int base = useSee && isLosingCapture(position, move) ? LOSING_CAPTURE_SCORE : CAPTURE_SCORE;
+                scores[i] = base + (useMvvLva ? mvvLva(position, move) : 0);
+            } else if (useKillers && move == killers[ply][0]) {
+                scores[i] = KILLER_SCORE + 1;
+            } else if (useKillers && move == killers[ply][1]) {
+                scores[i] = KILLER_SCORE;
+            } else if (move == counter) {
+                scores[i] = COUNTER_MOVE_SCORE;
+            } else {
+                scores[i] = useHistory ? history[side][Move.from(move)][Move.to(move)] : 0;
+            }
+        }
+    }
+
+    // Vítima mais valiosa primeiro; entre vítimas iguais, o atacante menos valioso primeiro
+    private static int mvvLva(ChessModel position, int move) {
+        int victim = Move.isEnPassant(move) ? PieceType.PAWN : position.getPieceType(Move.to(move));
+        int attacker = position.getPieceType(Move.from(move));
+        int score = (victim + 1) * 8 - attacker;
+        if (Move.promotion(move) != 0) {
+            score += Move.promotion(move) * 8;
+        }
+        return score;
+    }
+
+    /**
+     * Retorna true se a captura perde material na troca. A avaliação completa só é feita quando
+     * o atacante vale mais que a vítima; os demais casos nunca perdem.
+     */
+    boolean isLosingCapture(ChessModel position, int move) {
+        if (Move.promotion(move) != 0 || Move.isEnPassant(move)) return false;
+        int victim = position.getPieceType(Move.to(move));
+        int attacker = position.getPieceType(Move.from(move));
+        if (victim >= attacker || (victim == PieceType.KNIGHT && attacker == PieceType.BISHOP)) return false;
+        return StaticExchange.evaluate(position, move, seeGain) < 0;
+    }
+
+    // Troca o lance de maior nota entre i e o fim da lista para a posição i e o retorna
+    static int pickNext(MoveList moves, int[] scores, int i) {
+        int best = i;
+        for (int j = i + 1; j < moves.size(); j++) {
+            if (scores[j] > scores[best]) best = j;
+        }
+        if (best != i) {
+            int move = moves.get(i);
+            moves.set(i, moves.get(best));
+            moves.set(best, move);
+            int score = scores[i];
+            scores[i] = scores[best];
+            scores[best] = score;
+        }
+        return moves.get(i);
+    }
+
+    /**
+     * Um lance quieto causou corte beta: vira matador do nível e resposta ao lance anterior,
+     * ganha pontos no histórico e os quietos tentados antes dele perdem pontos.
+     */
+    void updateQuiet(ChessModel position, int move, int ply, int depth, int previousMove,
+                     int[] triedQuiets, int triedCount) {
+        if (killers[ply][0] != move) {
+            killers[ply][1] = killers[ply][0];
+            killers[ply][0] = move;
+        }
+        if (previousMove != Move.NONE) {
+            counterMoves[Move.from(previousMove)][Move.to(previousMove)] = move;
+        }
+
+        int side = position.isWhiteTurn() ? 0 : 1;
+        int bonus = Math.min(depth * depth, 400);
+        addHistory(side, move, bonus);
+        for (int i = 0; i < triedCount; i++) {
+            if (triedQuiets[i] != move) addHistory(side, triedQuiets[i], -bonus);
+        }
+    }
+
+    // Soma com saturação: quanto mais perto do limite, menor o efeito do bônus
+    private void addHistory(int side, int move, int bonus) {
+        int[] entry = history[side][Move.from(move)];
+        int to = Move.to(move);
+        entry[to] += bonus - entry[to] * Math.abs(bonus) / MAX_HISTORY;
+    }
+
+    // Retorna true se a nota é de um lance quieto comum (ordenado só pelo histórico)
+    static boolean isQuietScore(int score) {
+        return Math.abs(score) <= MAX_HISTORY;
+    }
+
+    // Capturas e promoções (os lances que mudam o material)
+    static boolean isTactical(int move) {
+        return Move.isCapture(move) || Move.promotion(move) != 0;
+    }
+}
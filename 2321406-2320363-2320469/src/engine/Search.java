@@ -0,0 +1,515 @@
+package engine;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import model.ChessModel;
+import model.Evaluation;
+import model.Move;
+import model.MoveList;
+import model.PawnHashTable;
+import model.PieceType;
+
+/**
+ * Busca do melhor lance: negamax com poda alfa-beta e aprofundamento iterativo.
+ * A busca trabalha sobre uma cópia da posição (ChessModel.copy), fazendo e desfazendo lances,
+ * e guarda a variação principal numa tabela triangular: a linha "ply" contém a melhor
+ * continuação encontrada a partir daquele nível.
+ * Cada profundidade completada vira o resultado atual; se um limite de nós ou de tempo for
+ * atingido no meio de uma iteração, fica valendo a última iteração completa.
+ * A busca é seletiva (ver negamax) e cada heurística pode ser desligada (SearchFeature).
+ * Os resultados de cada posição são guardados numa tabela de transposição, que pode ser
+ * compartilhada entre buscas (e entre threads).
+ */
+public class Search {
+    public static final int MAX_PLY = 64;
+    public static final int INFINITY = 32000;
+    public static final int MATE = 31000; // mate em n meios-lances vale MATE - n
+
+    // O relógio e o pedido de parada só são conferidos a cada CHECK_INTERVAL nós (potência de dois);
+    // a cada nó só se compara o contador com o limite de nós
+    private static final int CHECK_INTERVAL = 2048;
+
+    public static final int DEFAULT_HASH_MB = 16;
+
+    // Folga da poda delta: a captura é ignorada se nem com essa margem ela alcança alfa
+    private static final int DELTA_MARGIN = 200;
+
+    // Parâmetros da busca seletiva
+    private static final int NULL_MOVE_MIN_DEPTH = 3;
+    private static final int REVERSE_FUTILITY_DEPTH = 3;
+    private static final int REVERSE_FUTILITY_MARGIN = 120;      // por nível restante
+    private static final int[] FUTILITY_MARGIN = {0, 200, 500};  // por profundidade restante (1 e 2)
+    private static final int LMR_MIN_DEPTH = 3;
+    private static final int LMR_MIN_MOVE = 3;
+
+    // Janela de aspiração: margem inicial em volta da avaliação anterior e profundidade mínima
+    private static final int ASPIRATION_WINDOW = 25;
+    private static final int ASPIRATION_MIN_DEPTH = 4;
+
+    // Redução dos lances tardios por [profundidade][índice do lance]: ln(d) * ln(i) / 2
+    private static final int[][] LMR_TABLE = new int[64][64];
+
+    static {
+        for (int d = 1; d < 64; d++) {
+            for (int i = 1; i < 64; i++) {
+                LMR_TABLE[d][i] = (int) (0.5 + Math.log(d) * Math.log(i) / 2);
+            }
+        }
+    }
+
+    // Tamanho e deslocamento dos blocos de profundidades pulados por cada thread auxiliar
+    private static final int[] SKIP_SIZE  = {1, 1, 2, 2, 2, 2, 3, 3, 3, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 4};
+    private static final int[] SKIP_PHASE = {0, 1, 0, 1, 2, 3, 0, 1, 2, 3, 4, 5, 0, 1, 2, 3, 4, 5, 6, 7};
+
+    private final TranspositionTable table;
+    private ChessModel position;
+    private final MoveList[] moveLists = new MoveList[MAX_PLY + 1];
+    private final int[][] pvTable = new int[MAX_PLY + 1][MAX_PLY + 1];
+    private final int[] pvLength = new int[MAX_PLY + 1];
+    private final int[][] moveScores = new int[MAX_PLY + 1][MoveList.CAPACITY];
+    private final int[][] triedQuiets = new int[MAX_PLY + 1][MoveList.CAPACITY];
+    private final int[] playedMoves = new int[MAX_PLY + 1]; // lance feito em cada nível da linha atual
+    private final MoveOrdering ordering = new MoveOrdering();
+    // Tabela de peões própria de cada busca (no Lazy SMP, uma por thread; não precisa de sincronização)
+    private final PawnHashTable pawnTable = new PawnHashTable();
+    private boolean useQuiescence = true;
+    private boolean useSee = true;
+    private boolean useNullMove = true;
+    private boolean useLmr = true;
+    private boolean useFutility = true;
+    private boolean useReverseFutility = true;
+    private boolean useCheckExtensions = true;
+    private boolean useAspiration = true;
+
+    private long nodes;
+    private long nodeLimit;
+    private long deadline;                  // em System.nanoTime()
+    private boolean stopped;                // algum limite foi atingido nesta busca
+    private volatile boolean stopRequested; // pedido de parada vindo de outra thread
+
+    // Estatísticas da última busca, para medir a ordenação de lances
+    private long betaCutoffs;
+    private long firstMoveCutoffs;
+    private long lastIterationNodes;
+    private long previousIterationNodes;
+    private long aspirationResearches;
+
+    public Search() {
+        this(new TranspositionTable(DEFAULT_HASH_MB));
+    }
+
+    // Busca que usa a tabela de transposição informada (que pode ser compartilhada)
+    public Search(TranspositionTable table) {
+        this.table = table;
+        for (int i = 0; i <= MAX_PLY; i++) {
+            moveLists[i] = new MoveList();
+        }
+    }
+
+    public TranspositionTable getTable() {
+        return table;
+    }
+
+    public PawnHashTable getPawnTable() {
+        return pawnTable;
+    }
+
+    // Liga apenas as heurísticas informadas (ver SearchFeature); por padrão todas ficam ligadas
+    public void setFeatures(Set<SearchFeature> features) {
+        Set<SearchFeature> copy = features.isEmpty() ? EnumSet.noneOf(SearchFeature.class) : EnumSet.copyOf(features);
+        ordering.setFeatures(copy);
+        useQuiescence = copy.contains(SearchFeature.QUIESCENCE);
+        useSee = copy.contains(SearchFeature.SEE);
+        useNullMove = copy.contains(SearchFeature.NULL_MOVE);
+        useLmr = copy.contains(SearchFeature.LMR);
+        useFutility = copy.contains(SearchFeature.FUTILITY);
+        useReverseFutility = copy.contains(SearchFeature.REVERSE_FUTILITY);
+        useCheckExtensions = copy.contains(SearchFeature.CHECK_EXTENSIONS);
+        useAspiration = copy.contains(SearchFeature.ASPIRATION);
+    }
+
+    // Fração dos cortes beta feitos já pelo primeiro lance tentado, em milésimos
+    public int getFirstMoveCutoffPermille() {
+        return betaCutoffs == 0 ? 0 : (int) (firstMoveCutoffs * 1000 / betaCutoffs);
+    }
+
+    // Quantas vezes a raiz foi buscada de novo por cair fora da janela de aspiração
+    public long getAspirationResearches() {
+        return aspirationResearches;
+    }
+
+    // Fator de ramificação efetivo: nós da última iteração completa dividido pelos da anterior
+    public double getBranchingFactor() {
+        return previousIterationNodes == 0 ? 0 : (double) lastIterationNodes / previousIterationNodes;
+    }
+
+    /**
+     * Busca o melhor lance da posição respeitando os limites informados.
+     * A posição recebida não é alterada (a busca usa uma cópia).
+     */
+    public SearchResult search(ChessModel root, SearchLimits limits) {
+        table.newSearch();
+        stopRequested = false;
+        return iterate(root, limits, 0);
+    }
+
+    /**
+     * Aprofundamento iterativo de uma das threads da busca paralela (LazySmp), sem iniciar uma
+     * nova geração da tabela. A thread 0 busca todas as profundidades; as auxiliares pulam
+     * algumas, em blocos diferentes para cada uma, para que as threads não façam o mesmo trabalho.
+     * O pedido de parada não é apagado aqui (ver resetStop).
+     */
+    SearchResult iterate(ChessModel root, SearchLimits limits, int thread) {
+        position = root.copy();
+        nodes = 0;
+        nodeLimit = limits.getNodes();
+        long start = System.nanoTime();
+        TimeManager time = new TimeManager(limits, start);
+        deadline = time.hardDeadline();
+        stopped = false;
+        betaCutoffs = 0;
+        firstMoveCutoffs = 0;
+        lastIterationNodes = 0;
+        previousIterationNodes = 0;
+        aspirationResearches = 0;
+        ordering.newSearch();
+        pawnTable.resetStats(); // as entradas continuam valendo; só as estatísticas passam a ser desta busca
+
+        // Sem iteração completa, o resultado é o primeiro lance legal
+        MoveList rootMoves = moveLists[0];
+        position.generateLegalMoves(rootMoves);
+        int bestMove = rootMoves.size() > 0 ? rootMoves.get(0) : Move.NONE;
+        int bestScore = 0;
+        int[] bestPv = bestMove == Move.NONE ? new int[0] : new int[] {bestMove};
+        int completedDepth = 0;
+
+        for (int depth = 1; depth <= limits.getDepth() && bestMove != Move.NONE; depth++) {
+            if (skipsDepth(thread, depth) && depth < limits.getDepth()) continue;
+
+            long iterationStart = nodes;
+            int score = aspirationSearch(depth, bestScore, completedDepth);
+            if (stopped) break;
+
+            previousIterationNodes = lastIterationNodes;
+            lastIterationNodes = nodes - iterationStart;
+            bestScore = score;
+            bestPv = currentPv();
+            bestMove = bestPv[0];
+            completedDepth = depth;
+
+            // Mate encontrado dentro do horizonte: aprofundar não muda o lance
+            if (Math.abs(score) >= MATE - depth) break;
+            // Só a thread principal administra o tempo; as auxiliares são paradas por ela
+            if (thread == 0 && time.iterationDone(bestMove, score, System.nanoTime())) break;
+        }
+
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+        return new SearchResult(bestMove, bestScore, bestPv, completedDepth, nodes, elapsed);
+    }
+
+    /**
+     * Busca a raiz com uma janela estreita em volta da avaliação da iteração anterior
+     * (janela de aspiração). Se o resultado cair fora da janela, o lado que falhou é alargado
+     * (a margem dobra a cada tentativa) e a busca é refeita.
+     */
+    private int aspirationSearch(int depth, int previousScore, int previousDepth) {
+        int delta = ASPIRATION_WINDOW;
+        int alpha = -INFINITY;
+        int beta = INFINITY;
+        if (useAspiration && previousDepth >= ASPIRATION_MIN_DEPTH && Math.abs(previousScore) < MATE - MAX_PLY) {
+            alpha = Math.max(previousScore - delta, -INFINITY);
+            beta = Math.min(previousScore + delta, INFINITY);
+        }
+
+        while (true) {
+            int score = negamax(depth, alpha, beta, 0);
+            if (stopped) return 0;
+
+            if (score <= alpha && alpha > -INFINITY) {
+                aspirationResearches++;
+                delta *= 2;
+                alpha = Math.max(score - delta, -INFINITY);
+            } else if (score >= beta && beta < INFINITY) {
+                aspirationResearches++;
+                delta *= 2;
+                beta = Math.min(score + delta, INFINITY);
+            } else {
+                return score;
+            }
+        }
+    }
+
+    private static boolean skipsDepth(int thread, int depth) {
+        if (thread == 0) return false;
+        int i = (thread - 1) % SKIP_SIZE.length;
+        return ((depth + SKIP_PHASE[i]) / SKIP_SIZE[i]) % 2 != 0;
+    }
+
+    // Apaga um pedido de parada anterior, antes de entregar a busca a outra thread
+    void resetStop() {
+        stopRequested = false;
+    }
+
+    // Pede para a busca em andamento parar assim que possível (pode ser chamado de outra thread)
+    public void stop() {
+        stopRequested = true;
+    }
+
+    /**
+     * Negamax com alfa-beta: avaliação do ponto de vista do jogador da vez.
+     * O primeiro lance é buscado com a janela inteira e os demais com janela nula (PVS), refazendo
+     * a busca só se o lance superar alfa. Fora da variação principal (janela nula) a busca é
+     * seletiva: poda de lance nulo, poda de futilidade e de futilidade reversa perto das folhas e
+     * redução dos lances tardios (LMR). Posições em xeque são estendidas em um nível.
+     */
+    private int negamax(int depth, int alpha, int beta, int ply) {
+        pvLength[ply] = ply;
+
+        if ((++nodes & (CHECK_INTERVAL - 1)) == 0 || nodes >= nodeLimit) {
+            checkLimits();
+        }
+        if (stopped) return 0;
+
+        if (ply > 0 && (position.isRepetition() || position.isInsufficientMaterial())) {
+            return 0;
+        }
+        if (ply > 0 && position.isFiftyMoveRule()) {
+            // Como em ChessModel.getGameStatus, o mate dado no centésimo meio-lance vale mais que o empate
+            if (!position.isInCheck(position.isWhiteTurn())) return 0;
+            MoveList evasions = moveLists[ply];
+            position.generateLegalMoves(evasions);
+            return evasions.size() == 0 ? -MATE + ply : 0;
+        }
+        if (ply >= MAX_PLY) {
+            return evaluate();
+        }
+
+        boolean isWhite = position.isWhiteTurn();
+        boolean inCheck = position.isInCheck(isWhite);
+        if (inCheck && useCheckExtensions) {
+            depth++;
+        }
+        if (depth <= 0) {
+            return useQuiescence ? quiescence(alpha, beta, ply) : evaluate();
+        }
+
+        // Na raiz a busca segue sempre, para montar a variação principal
+        long key = position.getHash();
+        long entry = table.probe(key);
+        int ttMove = entry != 0 ? TranspositionTable.move(entry) : Move.NONE;
+        if (entry != 0 && ply > 0 && TranspositionTable.depth(entry) >= depth) {
+            int score = TranspositionTable.scoreFromTable(TranspositionTable.score(entry), ply);
+            int bound = TranspositionTable.bound(entry);
+            if (bound == TranspositionTable.EXACT
+                    || (bound == TranspositionTable.LOWER && score >= beta)
+                    || (bound == TranspositionTable.UPPER && score <= alpha)) {
+                return score;
+            }
+        }
+
+        boolean pvNode = beta - alpha > 1;
+        boolean selective = !pvNode && !inCheck && Math.abs(beta) < MATE - MAX_PLY;
+        int staticEval = selective ? evaluate() : 0;
+
+        // Futilidade reversa: mesmo perdendo uma margem por nível restante, o lado da vez passa de beta
+        if (selective && useReverseFutility && depth <= REVERSE_FUTILITY_DEPTH
+                && staticEval - REVERSE_FUTILITY_MARGIN * depth >= beta) {
+            return beta;
+        }
+
+        // Lance nulo: se passar a vez ainda deixa o lado da vez acima de beta, um lance de verdade
+        // também deixaria. Desligado sem peças além de rei e peões (risco de zugzwang) e após outro nulo.
+        if (selective && useNullMove && ply > 0 && depth >= NULL_MOVE_MIN_DEPTH && staticEval >= beta
+                && playedMoves[ply - 1] != Move.NONE && position.hasNonPawnMaterial(isWhite)) {
+            int reduction = depth >= 7 ? 3 : 2;
+            playedMoves[ply] = Move.NONE;
+            position.makeNullMove();
+            int score = -negamax(depth - 1 - reduction, -beta, -beta + 1, ply + 1);
+            position.unmakeMove();
+            if (stopped) return 0;
+            if (score >= beta) {
+                return beta;
+            }
+        }
+
+        // Futilidade: perto das folhas, lances quietos não recuperam uma desvantagem grande
+        boolean futile = selective && useFutility && depth < FUTILITY_MARGIN.length
+            && staticEval + FUTILITY_MARGIN[depth] <= alpha;
+
+        MoveList moves = moveLists[ply];
+        position.generateLegalMoves(moves);
+        if (moves.size() == 0) {
+            // Sem lances: mate (quanto mais perto, pior) ou afogamento
+            return inCheck ? -MATE + ply : 0;
+        }
+
+        int previousMove = ply > 0 ? playedMoves[ply - 1] : Move.NONE;
+        int[] scores = moveScores[ply];
+        ordering.score(position, moves, scores, ttMove, ply, previousMove);
+
+        int alphaOriginal = alpha;
+        int bestMove = Move.NONE;
+        int quietCount = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            int move = MoveOrdering.pickNext(moves, scores, i);
+            boolean quiet = MoveOrdering.isQuietScore(scores[i]);
+            playedMoves[ply] = move;
+            position.makeMove(move);
+            boolean givesCheck = position.isInCheck(!isWhite);
+
+            if (futile && i > 0 && quiet && !givesCheck) {
+                position.unmakeMove();
+                continue;
+            }
+
+            int score;
+            if (i == 0) {
+                score = -negamax(depth - 1, -beta, -alpha, ply + 1);
+            } else {
+                int reduction = 0;
+                if (useLmr && quiet && !inCheck && !givesCheck && depth >= LMR_MIN_DEPTH && i >= LMR_MIN_MOVE) {
+                    reduction = lateMoveReduction(depth, i, scores[i]);
+                }
+                score = -negamax(depth - 1 - reduction, -alpha - 1, -alpha, ply + 1);
+                if (score > alpha && reduction > 0) {
+                    score = -negamax(depth - 1, -alpha - 1, -alpha, ply + 1);
+                }
+                if (score > alpha && score < beta) {
+                    score = -negamax(depth - 1, -beta, -alpha, ply + 1);
+                }
+            }
+            position.unmakeMove();
+            if (stopped) return 0;
+
+            if (score > alpha) {
+                alpha = score;
+                bestMove = move;
+                updatePv(ply, move);
+                if (alpha >= beta) {
+                    betaCutoffs++;
+                    if (i == 0) firstMoveCutoffs++;
+                    if (!MoveOrdering.isTactical(move)) {
+                        ordering.updateQuiet(position, move, ply, depth, previousMove, triedQuiets[ply], quietCount);
+                    }
+                    break;
+                }
+            }
+            if (!MoveOrdering.isTactical(move)) {
+                triedQuiets[ply][quietCount++] = move;
+            }
+        }
+
+        int bound = alpha >= beta ? TranspositionTable.LOWER
+            : alpha > alphaOriginal ? TranspositionTable.EXACT
+            : TranspositionTable.UPPER;
+        table.store(key, bestMove, TranspositionTable.scoreToTable(alpha, ply), depth, bound);
+        return alpha;
+    }
+
+    // Redução cresce com a profundidade e a posição do lance na lista; histórico bom reduz menos
+    private static int lateMoveReduction(int depth, int moveIndex, int historyScore) {
+        int reduction = LMR_TABLE[Math.min(depth, 63)][Math.min(moveIndex, 63)];
+        if (historyScore > MoveOrdering.MAX_HISTORY / 2) reduction--;
+        if (historyScore < 0) reduction++;
+        return Math.max(0, Math.min(reduction, depth - 2));
+    }
+
+    /**
+     * Busca de quiescência: no fim da profundidade, continua só com capturas e promoções até a
+     * posição ficar "quieta", para não avaliar no meio de uma troca (efeito horizonte).
+     * O jogador da vez pode sempre parar ("stand pat") com a avaliação estática; capturas que
+     * nem com uma margem alcançariam alfa (poda delta) e capturas que perdem material na troca
+     * (SEE negativo) são ignoradas. Em xeque todos os lances são buscados, pois parar não é opção.
+     * Os lances da quiescência não entram na variação principal.
+     */
+    private int quiescence(int alpha, int beta, int ply) {
+        pvLength[ply] = ply;
+
+        if ((++nodes & (CHECK_INTERVAL - 1)) == 0 || nodes >= nodeLimit) {
+            checkLimits();
+        }
+        if (stopped) return 0;
+        if (ply >= MAX_PLY) return evaluate();
+
+        boolean inCheck = position.isInCheck(position.isWhiteTurn());
+        int standPat = evaluate();
+        if (!inCheck) {
+            if (standPat >= beta) return beta;
+            if (standPat > alpha) alpha = standPat;
+        }
+
+        MoveList moves = moveLists[ply];
+        position.generateLegalMoves(moves);
+        if (moves.size() == 0) {
+            return inCheck ? -MATE + ply : 0;
+        }
+
+        // Fora de xeque, só as capturas e promoções que podem mudar o resultado
+        if (!inCheck) {
+            for (int i = moves.size() - 1; i >= 0; i--) {
+                int move = moves.get(i);
+                if (!MoveOrdering.isTactical(move) || Move.isUnderPromotion(move)
+                        || standPat + gainBound(move) + DELTA_MARGIN <= alpha
+                        || (useSee && ordering.isLosingCapture(position, move))) {
+                    moves.removeAt(i);
+                }
+            }
+        }
+
+        int[] scores = moveScores[ply];
+        ordering.score(position, moves, scores, Move.NONE, ply, Move.NONE);
+        for (int i = 0; i < moves.size(); i++) {
+            int move = MoveOrdering.pickNext(moves, scores, i);
+            playedMoves[ply] = move;
+            position.makeMove(move);
+            int score = -quiescence(-beta, -alpha, ply + 1);
+            position.unmakeMove();
+            if (stopped) return 0;
+
+            if (score > alpha) {
+                alpha = score;
+                if (alpha >= beta) break;
+            }
+        }
+        return alpha;
+    }
+
+    // Maior ganho material possível do lance (valor da vítima mais o ganho da promoção)
+    private int gainBound(int move) {
+        int gain = Move.isEnPassant(move) ? PieceType.value(PieceType.PAWN) : 0;
+        if (Move.isCapture(move) && !Move.isEnPassant(move)) {
+            gain = PieceType.value(position.getPieceType(Move.to(move)));
+        }
+        if (Move.promotion(move) != 0) {
+            gain += PieceType.value(Move.promotion(move)) - PieceType.value(PieceType.PAWN);
+        }
+        return gain;
+    }
+
+    // O lance vira o início da linha "ply", seguido da melhor continuação encontrada no nível seguinte
+    private void updatePv(int ply, int move) {
+        pvTable[ply][ply] = move;
+        for (int i = ply + 1; i < pvLength[ply + 1]; i++) {
+            pvTable[ply][i] = pvTable[ply + 1][i];
+        }
+        pvLength[ply] = pvLength[ply + 1];
+    }
+
+    private int[] currentPv() {
+        int[] pv = new int[pvLength[0]];
+        System.arraycopy(pvTable[0], 0, pv, 0, pv.length);
+        return pv;
+    }
+
+    private void checkLimits() {
+        if (stopRequested || nodes >= nodeLimit || System.nanoTime() >= deadline) {
+            stopped = true;
+        }
+    }
+
+    // Avaliação estática do ponto de vista do jogador da vez (ver model.Evaluation)
+    private int evaluate() {
+        return Evaluation.evaluate(position, pawnTable);
+    }
+}
@@ -0,0 +1,31 @@
+package engine;
+
+/**
+ * Heurísticas da busca que podem ser ligadas e desligadas (Search.setFeatures), para medir no
+ * Bench quanto cada uma reduz o número de nós. Por padrão todas ficam ligadas.
+ */
+public enum SearchFeature {
+    TT_MOVE("lance da tabela primeiro"),
+    MVV_LVA("capturas por MVV-LVA"),
+    KILLERS("lances matadores"),
+    HISTORY("tabela de histórico"),
+    COUNTER_MOVES("lances de resposta"),
+    QUIESCENCE("busca de quiescência"),
+    SEE("avaliação estática de trocas"),
+    NULL_MOVE("poda de lance nulo"),
+    LMR("redução de lances tardios"),
+    FUTILITY("poda de futilidade"),
+    REVERSE_FUTILITY("poda de futilidade reversa"),
+    CHECK_EXTENSIONS("extensão de xeques"),
+    ASPIRATION("janelas de aspiração");
+
+    private final String description;
+
+    SearchFeature(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,90 @@
+package engine;
+
+/**
+ * Limites de uma busca: profundidade máxima, número máximo de nós e tempo máximo (em milissegundos).
+ * Também pode receber o relógio da partida (tempo restante, incremento e lances até o próximo
+ * controle); nesse caso o TimeManager decide quanto tempo gastar no lance.
+ * A busca para no primeiro limite atingido. Os métodos "with" retornam o próprio objeto para encadear:
+ *   SearchLimits.depth(8).withTime(500)
+ *   SearchLimits.clock(60000, 1000, 0)
+ */
+public class SearchLimits {
+    private int depth = Search.MAX_PLY;
+    private long nodes = Long.MAX_VALUE;
+    private long timeMillis = Long.MAX_VALUE;
+    private long timeLeftMillis = Long.MAX_VALUE; // relógio do jogador da vez
+    private long incrementMillis = 0;
+    private int movesToGo = 0;                    // 0 = sem controle de tempo à frente (morte súbita)
+
+    // Busca sem limite (até MAX_PLY ou até stop)
+    public static SearchLimits infinite() {
+        return new SearchLimits();
+    }
+
+    public static SearchLimits depth(int depth) {
+        return new SearchLimits().withDepth(depth);
+    }
+
+    public static SearchLimits nodes(long nodes) {
+        return new SearchLimits().withNodes(nodes);
+    }
+
+    public static SearchLimits time(long millis) {
+        return new SearchLimits().withTime(millis);
+    }
+
+    // Busca com o relógio da partida: tempo restante, incremento por lance e lances até o controle
+    public static SearchLimits clock(long timeLeftMillis, long incrementMillis, int movesToGo) {
+        return new SearchLimits().withClock(timeLeftMillis, incrementMillis, movesToGo);
+    }
+
+    public SearchLimits withDepth(int depth) {
+        this.depth = Math.max(1, Math.min(depth, Search.MAX_PLY));
+        return this;
+    }
+
+    public SearchLimits withNodes(long nodes) {
+        this.nodes = nodes;
+        return this;
+    }
+
+    public SearchLimits withTime(long millis) {
+        this.timeMillis = millis;
+        return this;
+    }
+
+    public SearchLimits withClock(long timeLeftMillis, long incrementMillis, int movesToGo) {
+        this.timeLeftMillis = timeLeftMillis;
+        this.incrementMillis = incrementMillis;
+        this.movesToGo = movesToGo;
+        return this;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+
+    public boolean hasClock() {
+        return timeLeftMillis != Long.MAX_VALUE;
+    }
+
+    public long getTimeLeftMillis() {
+        return timeLeftMillis;
+    }
+
+    public long getIncrementMillis() {
+        return incrementMillis;
+    }
+
+    public int getMovesToGo() {
+        return movesToGo;
+    }
+}
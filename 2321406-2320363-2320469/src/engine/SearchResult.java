@@ -0,0 +1,81 @@
+package engine;
+
+import model.Move;
+
+/**
+ * Resultado de uma busca: melhor lance, avaliação (em centésimos de peão, do ponto de vista
+ * do jogador da vez), variação principal, profundidade completada, nós visitados e tempo gasto.
+ */
+public class SearchResult {
+    private final int bestMove;
+    private final int score;
+    private final int[] pv;
+    private final int depth;
+    private final long nodes;
+    private final long timeMillis;
+
+    public SearchResult(int bestMove, int score, int[] pv, int depth, long nodes, long timeMillis) {
+        this.bestMove = bestMove;
+        this.score = score;
+        this.pv = pv;
+        this.depth = depth;
+        this.nodes = nodes;
+        this.timeMillis = timeMillis;
+    }
+
+    // Melhor lance codificado (ver model.Move), ou Move.NONE se a posição não tiver lances
+    public int getBestMove() {
+        return bestMove;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    // Variação principal: sequência de lances esperada a partir da posição buscada
+    public int[] getPv() {
+        return pv.clone();
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+
+    // Nós por segundo
+    public long getNps() {
+        return timeMillis <= 0 ? nodes * 1000 : nodes * 1000 / timeMillis;
+    }
+
+    // Retorna true se a avaliação indica mate (a favor ou contra o jogador da vez)
+    public boolean isMateScore() {
+        return Math.abs(score) >= Search.MATE - Search.MAX_PLY;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("profundidade ").append(depth);
+        if (isMateScore()) {
+            int plies = Search.MATE - Math.abs(score);
+            sb.append(" mate ").append(score > 0 ? (plies + 1) / 2 : -(plies / 2));
+        } else {
+            sb.append(" score ").append(score);
+        }
+        sb.append(" nós ").append(nodes)
+          .append(" tempo ").append(timeMillis).append(" ms")
+          .append(" nps ").append(getNps())
+          .append(" pv");
+        for (int move : pv) {
+            sb.append(' ').append(Move.toString(move));
+        }
+        return sb.toString();
+    }
+}
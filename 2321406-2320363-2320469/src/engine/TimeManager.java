@@ -0,0 +1,91 @@
+package engine;
+
+/**
+ * Controle de tempo de uma busca.
+ * O limite rígido (hard) é o prazo conferido durante a busca, a cada CHECK_INTERVAL nós; ao ser
+ * atingido a iteração em andamento é abandonada. O limite flexível (soft) só é conferido entre
+ * iterações, para decidir se vale começar outra.
+ * Com o relógio da partida, o tempo do lance é o restante dividido pelos lances até o controle
+ * (ou uma estimativa, em morte súbita) mais 3/4 do incremento; o limite rígido é até 4 vezes isso.
+ * O limite flexível encolhe quando o melhor lance se repete por várias iterações e cresce quando
+ * a avaliação cai muito de uma iteração para a outra. O tempo de withTime é só um limite rígido
+ * (a busca usa o tempo todo, a não ser que o relógio também seja informado).
+ */
+class TimeManager {
+
+    // Margem para a comunicação e a execução do lance, descontada do relógio
+    static final long MOVE_OVERHEAD_MILLIS = 30;
+    // Lances até o controle estimados quando a partida é de morte súbita
+    static final int DEFAULT_MOVES_TO_GO = 30;
+    private static final int MAX_HARD_FACTOR = 4;
+
+    // Quantas iterações seguidas com o mesmo melhor lance contam como "estável"
+    static final int STABLE_ITERATIONS = 4;
+    // Queda de avaliação (em centésimos de peão) que justifica pensar mais
+    static final int SCORE_DROP = 50;
+
+    private final long startNanos;
+    private final long softMillis;
+    private final long hardMillis;
+
+    private int lastBestMove;
+    private int stableIterations;
+    private int lastScore;
+    private boolean hasScore;
+
+    TimeManager(SearchLimits limits, long startNanos) {
+        this.startNanos = startNanos;
+        long soft = Long.MAX_VALUE;
+        long hard = Long.MAX_VALUE;
+        if (limits.hasClock()) {
+            long available = Math.max(1, limits.getTimeLeftMillis() - MOVE_OVERHEAD_MILLIS);
+            int movesToGo = limits.getMovesToGo() > 0 ? limits.getMovesToGo() : DEFAULT_MOVES_TO_GO;
+            soft = Math.min(available, available / movesToGo + limits.getIncrementMillis() * 3 / 4);
+            hard = Math.min(available, soft * MAX_HARD_FACTOR);
+        }
+        hard = Math.min(hard, limits.getTimeMillis());
+        this.softMillis = limits.hasClock() ? Math.min(soft, hard) : Long.MAX_VALUE;
+        this.hardMillis = hard;
+    }
+
+    long getSoftMillis() {
+        return softMillis;
+    }
+
+    long getHardMillis() {
+        return hardMillis;
+    }
+
+    // Prazo rígido em System.nanoTime(), ou Long.MAX_VALUE se não houver limite de tempo
+    long hardDeadline() {
+        return hardMillis >= Long.MAX_VALUE / 1_000_000 ? Long.MAX_VALUE : startNanos + hardMillis * 1_000_000;
+    }
+
+    /**
+     * Registra o resultado de uma iteração completa e retorna true se não vale começar outra:
+     * o tempo gasto já passou do limite flexível, ajustado pela estabilidade do melhor lance
+     * e pela variação da avaliação.
+     */
+    boolean iterationDone(int bestMove, int score, long nowNanos) {
+        stableIterations = bestMove == lastBestMove ? stableIterations + 1 : 0;
+        lastBestMove = bestMove;
+
+        double factor = 1.0;
+        if (stableIterations >= STABLE_ITERATIONS) {
+            factor = 0.5;
+        } else if (stableIterations >= STABLE_ITERATIONS / 2) {
+            factor = 0.8;
+        }
+        if (hasScore && lastScore - score >= 2 * SCORE_DROP) {
+            factor *= 2.0;
+        } else if (hasScore && lastScore - score >= SCORE_DROP) {
+            factor *= 1.5;
+        }
+        lastScore = score;
+        hasScore = true;
+
+        if (softMillis == Long.MAX_VALUE) return false;
+        long elapsedMillis = (nowNanos - startNanos) / 1_000_000;
+        return elapsedMillis >= Math.min(hardMillis, (long) (softMillis * factor));
+    }
+}
@@ -0,0 +1,212 @@
+package engine;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tabela de transposição de tamanho fixo (em megabytes), compartilhada entre threads sem travas.
+ *
+ * A tabela é um único AtomicLongArray dividido em baldes de duas entradas; cada entrada ocupa dois
+ * longs: (chave XOR dados) e dados. Cada long é lido e escrito inteiro (getOpaque/setOpaque, como
+ * em model.PerftHash), mas o par não é atômico: ao ler, a entrada só vale se o XOR dos dois longs
+ * devolver a chave procurada, então um par misturado por escritas de outra thread é visto como
+ * ausente (truque do XOR).
+ * A primeira entrada do balde é "preferência por profundidade" (só é trocada por uma busca igual
+ * ou mais profunda, ou se for de uma busca antiga); a segunda é "sempre substitui".
+ *
+ * Dados empacotados num long: bits 0-18 lance, 19-34 avaliação + 32768, 35-42 profundidade,
+ * 43-44 tipo de limite, 45-50 geração (busca em que a entrada foi gravada).
+ */
+public class TranspositionTable {
+
+    // Tipo de limite da avaliação guardada
+    public static final int EXACT = 1;  // valor exato (dentro da janela)
+    public static final int LOWER = 2;  // limite inferior (houve corte beta)
+    public static final int UPPER = 3;  // limite superior (nenhum lance superou alfa)
+
+    private static final int ENTRY_LONGS = 2;
+    private static final int BUCKET_LONGS = 2 * ENTRY_LONGS;
+    private static final int GENERATION_MASK = 63;
+
+    private final AtomicLongArray table;
+    private final int bucketMask;
+    private volatile int generation = 0;
+
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder collisions = new LongAdder();  // balde ocupado por outras posições na consulta
+    private final LongAdder overwrites = new LongAdder();  // entradas válidas da busca atual substituídas
+
+    // Cria a tabela com o tamanho informado em megabytes (arredondado para baixo para potência de dois)
+    public TranspositionTable(int megabytes) {
+        long buckets = Math.max(1L, (long) megabytes * 1024 * 1024 / (BUCKET_LONGS * 8));
+        int size = Integer.highestOneBit((int) Math.min(buckets, 1 << 26));
+        table = new AtomicLongArray(size * BUCKET_LONGS);
+        bucketMask = size - 1;
+    }
+
+    // Apaga todas as entradas e as estatísticas
+    public void clear() {
+        for (int i = 0; i < table.length(); i++) {
+            table.setOpaque(i, 0L);
+        }
+        generation = 0;
+        probes.reset();
+        hits.reset();
+        collisions.reset();
+        overwrites.reset();
+    }
+
+    // Início de uma nova busca: as entradas das buscas anteriores passam a poder ser substituídas
+    public void newSearch() {
+        generation = (generation + 1) & GENERATION_MASK;
+    }
+
+    /**
+     * Procura a posição na tabela. Retorna os dados empacotados (decodificar com move, score,
+     * depth e bound), ou 0 se a posição não estiver guardada.
+     */
+    public long probe(long key) {
+        probes.increment();
+        int index = bucketIndex(key);
+        boolean occupied = false;
+        for (int i = index; i < index + BUCKET_LONGS; i += ENTRY_LONGS) {
+            long data = table.getOpaque(i + 1);
+            if ((table.getOpaque(i) ^ data) == key && data != 0) {
+                hits.increment();
+                return data;
+            }
+            occupied |= data != 0;
+        }
+        if (occupied) {
+            collisions.increment();
+        }
+        return 0L;
+    }
+
+    // Guarda o resultado da busca de uma posição (a avaliação já deve estar ajustada com scoreToTable)
+    public void store(long key, int move, int score, int depth, int bound) {
+        int index = bucketIndex(key);
+        int gen = generation;
+        long data = pack(move, score, depth, bound, gen);
+
+        // Entrada de profundidade: mesma posição, busca igual ou mais profunda, ou entrada antiga
+        long deepData = table.getOpaque(index + 1);
+        boolean samePosition = (table.getOpaque(index) ^ deepData) == key;
+        if (deepData == 0 || samePosition || depth >= depth(deepData) || generation(deepData) != gen) {
+            // Mantém o lance anterior se a nova busca não encontrou nenhum
+            if (samePosition && move == 0) {
+                data = pack(move(deepData), score, depth, bound, gen);
+            }
+            if (!samePosition && deepData != 0 && generation(deepData) == gen) {
+                overwrites.increment();
+            }
+            write(index, key, data);
+            return;
+        }
+
+        // Caso contrário vai para a entrada que sempre substitui
+        long lastData = table.getOpaque(index + 3);
+        if (lastData != 0 && (table.getOpaque(index + 2) ^ lastData) != key && generation(lastData) == gen) {
+            overwrites.increment();
+        }
+        write(index + ENTRY_LONGS, key, data);
+    }
+
+    private void write(int i, long key, long data) {
+        table.setOpaque(i, key ^ data);
+        table.setOpaque(i + 1, data);
+    }
+
+    private int bucketIndex(long key) {
+        return ((int) key & bucketMask) * BUCKET_LONGS;
+    }
+
+    private static long pack(int move, int score, int depth, int bound, int generation) {
+        return (move & 0x7FFFFL)
+            | ((long) (score + 32768) << 19)
+            | ((long) (depth & 0xFF) << 35)
+            | ((long) bound << 43)
+            | ((long) generation << 45);
+    }
+
+    public static int move(long data) {
+        return (int) (data & 0x7FFFF);
+    }
+
+    public static int score(long data) {
+        return (int) ((data >>> 19) & 0xFFFF) - 32768;
+    }
+
+    public static int depth(long data) {
+        return (int) ((data >>> 35) & 0xFF);
+    }
+
+    public static int bound(long data) {
+        return (int) ((data >>> 43) & 3);
+    }
+
+    private static int generation(long data) {
+        return (int) ((data >>> 45) & GENERATION_MASK);
+    }
+
+    // Avaliações de mate são guardadas relativas à posição (distância a partir dela), não à raiz
+    public static int scoreToTable(int score, int ply) {
+        if (score >= Search.MATE - Search.MAX_PLY) return score + ply;
+        if (score <= -Search.MATE + Search.MAX_PLY) return score - ply;
+        return score;
+    }
+
+    public static int scoreFromTable(int score, int ply) {
+        if (score >= Search.MATE - Search.MAX_PLY) return score - ply;
+        if (score <= -Search.MATE + Search.MAX_PLY) return score + ply;
+        return score;
+    }
+
+    // Número de entradas (duas por balde)
+    public int capacity() {
+        return table.length() / ENTRY_LONGS;
+    }
+
+    // Fração de consultas que encontraram a posição, em milésimos
+    public int hitRatePermille() {
+        long total = probes.sum();
+        return total == 0 ? 0 : (int) (hits.sum() * 1000 / total);
+    }
+
+    // Ocupação estimada pelas primeiras 1000 entradas (só conta as da busca atual), em milésimos
+    public int fillPermille() {
+        int sample = Math.min(1000, capacity());
+        int used = 0;
+        int gen = generation;
+        for (int e = 0; e < sample; e++) {
+            long data = table.getOpaque(e * ENTRY_LONGS + 1);
+            if (data != 0 && generation(data) == gen) {
+                used++;
+            }
+        }
+        return used * 1000 / sample;
+    }
+
+    public long getProbes() {
+        return probes.sum();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getCollisions() {
+        return collisions.sum();
+    }
+
+    public long getOverwrites() {
+        return overwrites.sum();
+    }
+
+    // Resumo das estatísticas, para os relatórios de benchmark
+    public String stats() {
+        return "TT " + capacity() + " entradas, acertos " + hitRatePermille() + "‰, ocupação "
+            + fillPermille() + "‰, colisões " + getCollisions() + ", substituições " + getOverwrites();
+    }
+}
@@ -11,29 +11,22 @@ class Bishop extends Piece {
     // Retorna: true se o movimento do bispo for válido (diagonal, caminho livre, e sem capturar peça aliada)
     @Override
     public boolean isValidMove(Position from, Position to, Board board) {
-        int dx = Math.abs(from.row - to.row);
-        int dy = Math.abs(from.col - to.col);
+        int target = to.toSquare();
 
-        // Movimento deve ser na diagonal
-        if (dx != dy) return false;
+        // O destino deve estar no conjunto de ataques do bispo (diagonal, parando na primeira peça)
+        if ((attacks(from.toSquare(), board.occupancy()) & Bitboards.bit(target)) == 0) return false;
 
-        int rowStep = (to.row > from.row) ? 1 : -1;
-        int colStep = (to.col > from.col) ? 1 : -1;
-
-        int currentRow = from.row + rowStep;
-        int currentCol = from.col + colStep;
+        // Permite o movimento se o destino estiver vazio ou ocupado por peça adversária
+        return isFreeOrEnemy(target, board);
+    }
 
-        // Verifica se há peças no caminho
-        while (currentRow != to.row) {
-            if (!board.isEmpty(currentRow, currentCol)) {
-                return false;
-            }
-            currentRow += rowStep;
-            currentCol += colStep;
-        }
+    @Override
+    long attacks(int square, long occupied) {
+        return Magics.bishopAttacks(square, occupied);
+    }
 
-        // Permite o movimento se o destino estiver vazio ou ocupado por peça adversária
-        Piece destinationPiece = board.getPiece(to.row, to.col);
-        return destinationPiece == null || destinationPiece.isWhite() != this.isWhite;
+    @Override
+    public int getType() {
+        return BISHOP;
     }
 }
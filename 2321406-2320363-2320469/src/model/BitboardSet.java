@@ -0,0 +1,73 @@
+package model;
+
+import java.util.Arrays;
+
+// Representação do tabuleiro em bitboards: doze conjuntos de peças (tipo x cor),
+// as uniões de ocupação por cor e total, e um vetor auxiliar com a peça de cada casa.
+// Usada por Board como armazenamento principal para as verificações de regras (as tabelas
+// estáticas de ataques e as funções de casas ficam em Bitboards).
+class BitboardSet {
+    static final int WHITE = 0;
+    static final int BLACK = 1;
+    static final int EMPTY = -1;
+
+    private final long[] pieces = new long[12];   // índice = cor * 6 + tipo
+    private final long[] colors = new long[2];    // ocupação por cor
+    private long occupied;                        // ocupação total
+    private final byte[] mailbox = new byte[64];  // índice da peça em cada casa (EMPTY se vazia)
+
+    public BitboardSet() {
+        Arrays.fill(mailbox, (byte) EMPTY);
+    }
+
+    // Retorna o índice (0 a 11) de uma peça a partir do seu tipo e da sua cor
+    static int index(int type, boolean isWhite) {
+        return (isWhite ? WHITE : BLACK) * 6 + type;
+    }
+
+    // Coloca a peça de índice informado na casa (que deve estar vazia)
+    public void add(int square, int index) {
+        long b = Bitboards.bit(square);
+        pieces[index] |= b;
+        colors[index / 6] |= b;
+        occupied |= b;
+        mailbox[square] = (byte) index;
+    }
+
+    // Remove a peça da casa, se houver
+    public void remove(int square) {
+        int index = mailbox[square];
+        if (index == EMPTY) return;
+
+        long b = ~Bitboards.bit(square);
+        pieces[index] &= b;
+        colors[index / 6] &= b;
+        occupied &= b;
+        mailbox[square] = (byte) EMPTY;
+    }
+
+    // Esvazia todas as casas
+    public void clear() {
+        Arrays.fill(pieces, 0L);
+        Arrays.fill(colors, 0L);
+        occupied = 0L;
+        Arrays.fill(mailbox, (byte) EMPTY);
+    }
+
+    public long pieces(int type, boolean isWhite) {
+        return pieces[index(type, isWhite)];
+    }
+
+    public long occupancy(boolean isWhite) {
+        return colors[isWhite ? WHITE : BLACK];
+    }
+
+    public long occupancy() {
+        return occupied;
+    }
+
+    // Retorna o índice da peça na casa, ou EMPTY
+    public int pieceAt(int square) {
+        return mailbox[square];
+    }
+}
@@ -0,0 +1,103 @@
+package model;
+
+// Tabelas pré-calculadas e utilitários para bitboards.
+// Cada casa do tabuleiro corresponde ao bit (linha * 8 + coluna): a8 = bit 0 e h1 = bit 63,
+// seguindo a mesma orientação de linhas usada em Board (linha 0 = lado das pretas).
+final class Bitboards {
+
+    // Casas atacadas por um cavalo / rei em cada casa
+    static final long[] KNIGHT_ATTACKS = new long[64];
+    static final long[] KING_ATTACKS = new long[64];
+
+    // Casas atacadas (capturas diagonais) por um peão de cada cor: [cor][casa]
+    static final long[][] PAWN_ATTACKS = new long[2][64];
+
+    // Casas estritamente entre duas casas alinhadas (reta ou diagonal); 0 se não estiverem alinhadas
+    static final long[][] BETWEEN = new long[64][64];
+
+    // Linha inteira (de borda a borda) que passa por duas casas alinhadas; 0 se não estiverem alinhadas
+    static final long[][] LINE = new long[64][64];
+
+    // Casas claras do tabuleiro (a8 e h1 são claras)
+    static final long LIGHT_SQUARES = 0xAA55AA55AA55AA55L;
+
+    private static final int[][] KNIGHT_OFFSETS = {
+        {-2, -1}, {-2, 1}, {-1, -2}, {-1, 2}, {1, -2}, {1, 2}, {2, -1}, {2, 1}
+    };
+    private static final int[][] KING_OFFSETS = {
+        {-1, -1}, {-1, 0}, {-1, 1}, {0, -1}, {0, 1}, {1, -1}, {1, 0}, {1, 1}
+    };
+
+    static {
+        for (int sq = 0; sq < 64; sq++) {
+            int row = row(sq);
+            int col = col(sq);
+
+            KNIGHT_ATTACKS[sq] = offsetsMask(row, col, KNIGHT_OFFSETS);
+            KING_ATTACKS[sq] = offsetsMask(row, col, KING_OFFSETS);
+
+            // Peões brancos avançam para a linha 0, pretos para a linha 7
+            PAWN_ATTACKS[BitboardSet.WHITE][sq] = offsetsMask(row, col, new int[][] {{-1, -1}, {-1, 1}});
+            PAWN_ATTACKS[BitboardSet.BLACK][sq] = offsetsMask(row, col, new int[][] {{1, -1}, {1, 1}});
+
+            // Percorre as oito direções acumulando as casas intermediárias
+            for (int[] dir : KING_OFFSETS) {
+                long line = bit(sq) | ray(row, col, dir[0], dir[1]) | ray(row, col, -dir[0], -dir[1]);
+                long path = 0L;
+                int r = row + dir[0];
+                int c = col + dir[1];
+                while (r >= 0 && r < 8 && c >= 0 && c < 8) {
+                    int to = square(r, c);
+                    BETWEEN[sq][to] = path;
+                    LINE[sq][to] = line;
+                    path |= bit(to);
+                    r += dir[0];
+                    c += dir[1];
+                }
+            }
+        }
+    }
+
+    private Bitboards() {
+    }
+
+    // Monta a máscara das casas alcançadas a partir de (row, col) com os deslocamentos dados
+    private static long offsetsMask(int row, int col, int[][] offsets) {
+        long mask = 0L;
+        for (int[] offset : offsets) {
+            int r = row + offset[0];
+            int c = col + offset[1];
+            if (r >= 0 && r < 8 && c >= 0 && c < 8) {
+                mask |= bit(square(r, c));
+            }
+        }
+        return mask;
+    }
+
+    // Casas a partir de (row, col), sem incluí-la, seguindo uma direção até a borda
+    private static long ray(int row, int col, int dRow, int dCol) {
+        long mask = 0L;
+        for (int r = row + dRow, c = col + dCol; r >= 0 && r < 8 && c >= 0 && c < 8; r += dRow, c += dCol) {
+            mask |= bit(square(r, c));
+        }
+        return mask;
+    }
+
+    // Retorna o bitboard com apenas a casa indicada
+    static long bit(int square) {
+        return 1L << square;
+    }
+
+    // Converte linha e coluna no índice da casa (0 a 63)
+    static int square(int row, int col) {
+        return row * 8 + col;
+    }
+
+    static int row(int square) {
+        return square >>> 3;
+    }
+
+    static int col(int square) {
+        return square & 7;
+    }
+}
@@ -1,12 +1,32 @@
 package model;
 
-// Representa o tabuleiro de xadrez, composto por uma matriz 8x8 de peças.
+import java.util.Arrays;
+
+// Representa o tabuleiro de xadrez. As peças ficam num vetor de 64 casas (linha * 8 + coluna)
+// e a ocupação é espelhada em bitboards (BitboardSet), usados nas verificações de regras.
 class Board {
-    private Piece[][] board;
+    private final Piece[] squares = new Piece[64];
+    private final BitboardSet bits = new BitboardSet();
+
+    // Casa de cada rei (índice BitboardSet.WHITE / BitboardSet.BLACK), mantida a cada alteração do tabuleiro; -1 se ausente
+    private final int[] kingSquares = {-1, -1};
+
+    // Quantidade de peças de cada índice (cor * 6 + tipo), atualizada a cada alteração do tabuleiro
+    private final int[] pieceCounts = new int[12];
+
+    // Parte da chave de Zobrist referente às peças (XOR de Zobrist.PIECES), atualizada a cada alteração
+    private long pieceKey = 0L;
+    // Parte da chave só com os peões (chave da tabela de peões), atualizada da mesma forma
+    private long pawnKey = 0L;
+
+    // Soma das tabelas de peça-casa (brancas menos pretas) de meio-jogo e final, e fase da partida
+    // (ver PieceSquareTables), atualizadas a cada alteração: avaliar a posição custa O(1)
+    private int mgScore = 0;
+    private int egScore = 0;
+    private int phase = 0;
 
     // Construtor. Se o parâmetro "empty" for falso, inicializa o tabuleiro com a posição padrão.
     public Board(boolean empty) {
-        board = new Piece[8][8];
         if (!empty) {
             setupInitialPosition();
         }
@@ -16,44 +36,63 @@ class Board {
     private void setupInitialPosition() {
         // Peões
         for (int i = 0; i < 8; i++) {
-            board[1][i] = new Pawn(false); // pretos
-            board[6][i] = new Pawn(true);  // brancos
+            setPiece(1, i, new Pawn(false)); // pretos
+            setPiece(6, i, new Pawn(true));  // brancos
         }
 
         // Torres
-        board[0][0] = new Rook(false);
-        board[0][7] = new Rook(false);
-        board[7][0] = new Rook(true);
-        board[7][7] = new Rook(true);
+        setPiece(0, 0, new Rook(false));
+        setPiece(0, 7, new Rook(false));
+        setPiece(7, 0, new Rook(true));
+        setPiece(7, 7, new Rook(true));
 
         // Cavalos
-        board[0][1] = new Knight(false);
-        board[0][6] = new Knight(false);
-        board[7][1] = new Knight(true);
-        board[7][6] = new Knight(true);
+        setPiece(0, 1, new Knight(false));
+        setPiece(0, 6, new Knight(false));
+        setPiece(7, 1, new Knight(true));
+        setPiece(7, 6, new Knight(true));
 
         // Bispos
-        board[0][2] = new Bishop(false);
-        board[0][5] = new Bishop(false);
-        board[7][2] = new Bishop(true);
-        board[7][5] = new Bishop(true);
+        setPiece(0, 2, new Bishop(false));
+        setPiece(0, 5, new Bishop(false));
+        setPiece(7, 2, new Bishop(true));
+        setPiece(7, 5, new Bishop(true));
 
         // Rainhas
-        board[0][3] = new Queen(false);
-        board[7][3] = new Queen(true);
+        setPiece(0, 3, new Queen(false));
+        setPiece(7, 3, new Queen(true));
 
         // Reis
-        board[0][4] = new King(false);
-        board[7][4] = new King(true);
+        setPiece(0, 4, new King(false));
+        setPiece(7, 4, new King(true));
     }
 
     // Remove todas as peças do tabuleiro, deixando todas as casas vazias.
     public void clear() {
-        for (int row = 0; row < 8; row++) {
-            for (int col = 0; col < 8; col++) {
-                board[row][col] = null;
+        Arrays.fill(squares, null);
+        bits.clear();
+        kingSquares[BitboardSet.WHITE] = -1;
+        kingSquares[BitboardSet.BLACK] = -1;
+        pieceKey = 0L;
+        pawnKey = 0L;
+        Arrays.fill(pieceCounts, 0);
+        mgScore = 0;
+        egScore = 0;
+        phase = 0;
+    }
+
+    // Retorna uma cópia independente do tabuleiro: peças novas, com o mesmo estado de "já se moveu".
+    Board copy() {
+        Board copy = new Board(true);
+        for (int sq = 0; sq < 64; sq++) {
+            Piece piece = squares[sq];
+            if (piece != null) {
+                Piece clone = Piece.create(piece.getType(), piece.isWhite());
+                clone.setHasMoved(piece.hasMoved());
+                copy.setPiece(sq, clone);
             }
         }
+        return copy;
     }
 
     // Retorna a peça presente na posição indicada (linha e coluna), ou null se fora dos limites.
@@ -61,23 +100,66 @@ class Board {
         if (row < 0 || row >= 8 || col < 0 || col >= 8) {
             return null;
         }
-        return board[row][col];
+        return squares[Bitboards.square(row, col)];
+    }
+
+    // Retorna a peça presente na casa indicada (índice de 0 a 63), ou null se estiver vazia.
+    Piece getPiece(int square) {
+        return squares[square];
     }
 
     // Move uma peça da posição "from" para a posição "to".
     // A posição de origem fica vazia após o movimento.
     // Além de marca que a peça se moveu
     public void movePiece(Position from, Position to) {
-        Piece piece = board[from.row][from.col];
+        Piece piece = squares[from.toSquare()];
         piece.setHasMoved(true); // marca o movimento
-        board[to.row][to.col] = piece;
-        board[from.row][from.col] = null;
+        setPiece(to.toSquare(), piece);
+        setPiece(from.toSquare(), null);
     }
 
     // Coloca uma peça na posição indicada (linha e coluna).
     // Substitui qualquer peça anterior naquela casa.
     public void setPiece(int row, int col, Piece piece) {
-        board[row][col] = piece;
+        setPiece(Bitboards.square(row, col), piece);
+    }
+
+    // Coloca uma peça (ou null) na casa indicada, mantendo os bitboards e a casa dos reis sincronizados.
+    void setPiece(int square, Piece piece) {
+        Piece previous = squares[square];
+        if (previous != null && previous.getType() == Piece.KING && kingSquares[colorIndex(previous)] == square) {
+            kingSquares[colorIndex(previous)] = -1;
+        }
+
+        int previousIndex = bits.pieceAt(square);
+        if (previousIndex != BitboardSet.EMPTY) {
+            pieceKey ^= Zobrist.PIECES[previousIndex][square];
+            if (previousIndex % 6 == Piece.PAWN) pawnKey ^= Zobrist.PIECES[previousIndex][square];
+            pieceCounts[previousIndex]--;
+            mgScore -= PieceSquareTables.MG[previousIndex][square];
+            egScore -= PieceSquareTables.EG[previousIndex][square];
+            phase -= PieceSquareTables.PHASE[previousIndex % 6];
+        }
+
+        bits.remove(square);
+        squares[square] = piece;
+        if (piece != null) {
+            int index = BitboardSet.index(piece.getType(), piece.isWhite());
+            bits.add(square, index);
+            pieceKey ^= Zobrist.PIECES[index][square];
+            if (piece.getType() == Piece.PAWN) pawnKey ^= Zobrist.PIECES[index][square];
+            pieceCounts[index]++;
+            mgScore += PieceSquareTables.MG[index][square];
+            egScore += PieceSquareTables.EG[index][square];
+            phase += PieceSquareTables.PHASE[piece.getType()];
+            if (piece.getType() == Piece.KING) {
+                kingSquares[colorIndex(piece)] = square;
+            }
+        }
+    }
+
+    private static int colorIndex(Piece piece) {
+        return piece.isWhite() ? BitboardSet.WHITE : BitboardSet.BLACK;
     }
 
     // Retorna true se a casa na posição indicada estiver vazia (e for válida).
@@ -85,6 +167,96 @@ class Board {
         if (row < 0 || row >= 8 || col < 0 || col >= 8) {
             return false;
         }
-        return board[row][col] == null;
+        return (bits.occupancy() & Bitboards.bit(Bitboards.square(row, col))) == 0;
+    }
+
+    // Retorna o bitboard de todas as casas ocupadas.
+    long occupancy() {
+        return bits.occupancy();
+    }
+
+    // Retorna o bitboard das casas ocupadas por peças da cor indicada.
+    long occupancy(boolean isWhite) {
+        return bits.occupancy(isWhite);
+    }
+
+    // Retorna o bitboard das peças de um tipo e cor (ex.: Piece.ROOK, true = torres brancas).
+    long pieces(int type, boolean isWhite) {
+        return bits.pieces(type, isWhite);
+    }
+
+    // Retorna o índice (cor * 6 + tipo) da peça na casa, ou BitboardSet.EMPTY se estiver vazia.
+    int pieceIndexAt(int square) {
+        return bits.pieceAt(square);
+    }
+
+    // Verifica se a casa é atacada por alguma peça da cor indicada.
+    // Parte da própria casa: tabelas de cavalo e rei, máscara de ataque de peão e os raios
+    // de torre/bispo (que param na primeira peça), comparados com as peças atacantes.
+    boolean isSquareAttacked(int square, boolean byWhite) {
+        long occupied = bits.occupancy();
+        if ((Bitboards.KNIGHT_ATTACKS[square] & bits.pieces(Piece.KNIGHT, byWhite)) != 0) return true;
+        if ((Bitboards.PAWN_ATTACKS[byWhite ? BitboardSet.BLACK : BitboardSet.WHITE][square] & bits.pieces(Piece.PAWN, byWhite)) != 0) return true;
+        if ((Bitboards.KING_ATTACKS[square] & bits.pieces(Piece.KING, byWhite)) != 0) return true;
+
+        long queens = bits.pieces(Piece.QUEEN, byWhite);
+        if ((Magics.rookAttacks(square, occupied) & (bits.pieces(Piece.ROOK, byWhite) | queens)) != 0) return true;
+        return (Magics.bishopAttacks(square, occupied) & (bits.pieces(Piece.BISHOP, byWhite) | queens)) != 0;
+    }
+
+    // Retorna o bitboard de todas as peças da cor indicada que atacam a casa,
+    // considerando a ocupação informada (permite "remover" peças, como o rei que está se movendo).
+    long attackersTo(int square, boolean byWhite, long occupied) {
+        long queens = bits.pieces(Piece.QUEEN, byWhite);
+        return (Bitboards.KNIGHT_ATTACKS[square] & bits.pieces(Piece.KNIGHT, byWhite))
+             | (Bitboards.PAWN_ATTACKS[byWhite ? BitboardSet.BLACK : BitboardSet.WHITE][square] & bits.pieces(Piece.PAWN, byWhite))
+             | (Bitboards.KING_ATTACKS[square] & bits.pieces(Piece.KING, byWhite))
+             | (Magics.rookAttacks(square, occupied) & (bits.pieces(Piece.ROOK, byWhite) | queens))
+             | (Magics.bishopAttacks(square, occupied) & (bits.pieces(Piece.BISHOP, byWhite) | queens));
+    }
+
+    // Retorna quantas peças de um tipo e cor estão no tabuleiro, em O(1)
+    int pieceCount(int type, boolean isWhite) {
+        return pieceCounts[BitboardSet.index(type, isWhite)];
+    }
+
+    // Retorna a soma dos valores materiais (PieceType.value) das peças da cor indicada
+    int material(boolean isWhite) {
+        int base = BitboardSet.index(Piece.PAWN, isWhite);
+        int total = 0;
+        for (int type = Piece.PAWN; type < Piece.KING; type++) {
+            total += pieceCounts[base + type] * PieceType.value(type);
+        }
+        return total;
+    }
+
+    // Retorna a parte da chave de Zobrist referente às peças, mantida incrementalmente por setPiece
+    long pieceKey() {
+        return pieceKey;
+    }
+
+    // Retorna a parte da chave de Zobrist referente só aos peões, mantida incrementalmente por setPiece
+    long pawnKey() {
+        return pawnKey;
+    }
+
+    // Soma de meio-jogo das tabelas de peça-casa (brancas menos pretas)
+    int mgScore() {
+        return mgScore;
+    }
+
+    // Soma de final das tabelas de peça-casa (brancas menos pretas)
+    int egScore() {
+        return egScore;
+    }
+
+    // Fase da partida: 0 sem peças além de reis e peões, PieceSquareTables.MAX_PHASE com todas
+    int phase() {
+        return phase;
+    }
+
+    // Retorna a casa do rei da cor indicada em O(1), ou -1 se ele não estiver no tabuleiro.
+    int kingSquare(boolean isWhite) {
+        return kingSquares[isWhite ? BitboardSet.WHITE : BitboardSet.BLACK];
     }
 }
@@ -1,48 +1,160 @@
 package model;
 
 import observer.Observable;
+import observer.ObserverRegistry;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * Classe principal que representa o modelo do jogo de xadrez (ChessModel).
  * Controla o estado do tabuleiro, o turno atual e as regras básicas de movimentação e cheque.
+ * Cada instância é uma partida independente (todo o estado é da instância), de forma que várias
+ * partidas podem existir ao mesmo tempo, cada uma usada por uma thread.
  */
 public class ChessModel implements Observable  {
-    private static ChessModel instance;
+    private final ObserverRegistry observers = new ObserverRegistry(); // observadores desta partida
     private Board board;
     private boolean showSaveMenuRequested = false;
     private boolean showPromotionMenuRequested = false;
     private boolean whiteTurn = true;
     private Position selectedPiecePos = null;
     private Position pendingPromotionPos = null;  // se != null, há promoção pendente
-    private Position enPassantTarget = null; // Posição do peão que pode ser capturado por en passant (válido apenas no turno seguinte)
+    private int pendingPromotionMove = Move.NONE; // lance do peão que aguarda a escolha da peça
+    private Piece pendingPromotionCaptured = null; // peça que estava na casa de promoção (se houver)
+    private int enPassantSquare = -1; // Casa alvo de en passant (0 a 63), válida apenas no turno seguinte; -1 se não houver
+    private int castlingRights = CASTLE_ALL; // direitos de roque ainda disponíveis (máscara CASTLE_*)
     private int halfmoveClock = 0;     // contador dos 50 lances
     private int fullMoveNumber = 1;    // número completo do lance
 
+    // Direitos de roque, um bit para cada lado de cada cor
+    static final int CASTLE_WHITE_KINGSIDE = 1;
+    static final int CASTLE_WHITE_QUEENSIDE = 2;
+    static final int CASTLE_BLACK_KINGSIDE = 4;
+    static final int CASTLE_BLACK_QUEENSIDE = 8;
+    static final int CASTLE_ALL = 15;
+
+    // Casas iniciais dos reis (e1 e e8)
+    static final int WHITE_KING_SQUARE = 60;
+    static final int BLACK_KING_SQUARE = 4;
+
+    // Direitos de roque que continuam válidos quando um lance sai de / chega a cada casa
+    // (mover o rei perde os dois lados; mover ou capturar uma torre no canto perde o seu lado)
+    private static final int[] CASTLING_MASK = new int[64];
+
+    static {
+        Arrays.fill(CASTLING_MASK, CASTLE_ALL);
+        CASTLING_MASK[WHITE_KING_SQUARE] &= ~(CASTLE_WHITE_KINGSIDE | CASTLE_WHITE_QUEENSIDE);
+        CASTLING_MASK[BLACK_KING_SQUARE] &= ~(CASTLE_BLACK_KINGSIDE | CASTLE_BLACK_QUEENSIDE);
+        CASTLING_MASK[63] &= ~CASTLE_WHITE_KINGSIDE;   // h1
+        CASTLING_MASK[56] &= ~CASTLE_WHITE_QUEENSIDE;  // a1
+        CASTLING_MASK[7] &= ~CASTLE_BLACK_KINGSIDE;    // h8
+        CASTLING_MASK[0] &= ~CASTLE_BLACK_QUEENSIDE;   // a8
+    }
+
+    // Pilha de desfazer (pré-alocada): um registro compacto por lance feito com makeMove.
+    // O estado irreversível fica empacotado em um int (ver packUndoState).
+    private static final int INITIAL_UNDO_CAPACITY = 1024;
+    private int[] undoMoves = new int[INITIAL_UNDO_CAPACITY];
+    private int[] undoStates = new int[INITIAL_UNDO_CAPACITY];
+    private Piece[] undoPieces = new Piece[INITIAL_UNDO_CAPACITY];    // peça movida (necessária para desfazer promoções)
+    private Piece[] undoCaptured = new Piece[INITIAL_UNDO_CAPACITY];  // peça capturada, ou null
+    private int[] undoLastNullPly = new int[INITIAL_UNDO_CAPACITY];   // lastNullPly anterior (só nos lances nulos)
+    private int undoSize = 0;
+
+    // Chaves de Zobrist das posições da partida, num buffer circular pré-alocado indexado pelo meio-lance.
+    // Só as posições desde o último lance irreversível (halfmoveClock) podem se repetir, e a regra dos
+    // 50 lances encerra a partida em 100 meios-lances, então 256 entradas bastam.
+    private static final int HISTORY_SIZE = 256;
+    private static final int HISTORY_MASK = HISTORY_SIZE - 1;
+    private final long[] hashHistory = new long[HISTORY_SIZE];
+    private int historyPly = 0;
+    // Meio-lance (historyPly) do último lance nulo, ou 0: as posições antes dele não contam para a
+    // repetição, já que o adversário só passou a vez e nenhuma posição real se repetiu
+    private int lastNullPly = 0;
+
+    // Lista de movimentos reaproveitada pelas consultas de movimentos legais
+    private final MoveList moveBuffer = new MoveList();
+
+    // Lances legais e situação da partida calculados uma vez por posição (ver refreshPositionCache).
+    // Valem enquanto não houver lance novo (positionVersion) e a chave de Zobrist não mudar,
+    // o que também percebe alterações feitas direto no tabuleiro.
+    private final MoveList legalMoves = new MoveList();
+    private GameStatus cachedStatus = null;
+    private int positionVersion = 0;
+    private int cachedVersion;
+    private long cachedHash;
+
+    // Símbolos FEN indexados pelo índice de peça do bitboard (cor * 6 + tipo)
+    private static final String FEN_SYMBOLS = "PNBRQKpnbrqk";
+
     
 
-    // Construtor privado (padrão Singleton). Inicializa o tabuleiro com a configuração padrão.
-    private ChessModel() {
+    // Cria uma nova partida, com o tabuleiro na configuração padrão.
+    public ChessModel() {
         board = new Board(false);
+        resetHistory();
+    }
+
+    // Registro de observadores desta partida (usado pelas implementações padrão de Observable)
+    @Override
+    public ObserverRegistry getObservers() {
+        return observers;
     }
 
-    // Retorna a instância única do modelo. Cria uma nova se ainda não existir.
-    public static ChessModel getInstance() {
-        if (instance == null) {
-            instance = new ChessModel();
+    /**
+     * Cria uma cópia independente da posição atual (tabuleiro, turno, direitos de roque,
+     * en passant e relógios), sem lances para desfazer nem estado da interface.
+     * Usada para analisar a posição em outra thread sem tocar no jogo em andamento.
+     */
+    public ChessModel copy() {
+        ChessModel copy = new ChessModel();
+        copy.board = board.copy();
+        copy.whiteTurn = whiteTurn;
+        copy.enPassantSquare = enPassantSquare;
+        copy.castlingRights = castlingRights;
+        copy.halfmoveClock = halfmoveClock;
+        copy.fullMoveNumber = fullMoveNumber;
+        System.arraycopy(hashHistory, 0, copy.hashHistory, 0, HISTORY_SIZE);
+        copy.historyPly = historyPly;
+        copy.lastNullPly = lastNullPly;
+        return copy;
+    }
+
+    /**
+     * Retorna a chave de Zobrist (64 bits) da posição: peças, lado a jogar, direitos de roque
+     * e coluna de en passant. A parte das peças é atualizada pelo tabuleiro a cada casa alterada
+     * (lances, promoções, roques, capturas en passant, desfazer e carregamento de FEN);
+     * o restante é somado aqui, então a consulta não percorre o tabuleiro.
+     */
+    public long getHash() {
+        long hash = board.pieceKey() ^ Zobrist.CASTLING[castlingRights];
+        if (enPassantSquare >= 0) {
+            hash ^= Zobrist.EN_PASSANT_FILE[Bitboards.col(enPassantSquare)];
         }
-        return instance;
+        if (!whiteTurn) {
+            hash ^= Zobrist.BLACK_TO_MOVE;
+        }
+        return hash;
     }
 
-    // Reseta a instância atual do modelo (usado principalmente em testes).
-    public static void resetInstance() {
-        instance = null;
+    // Chave de Zobrist da posição atual, calculada do zero a partir do tabuleiro (usada para conferir getHash)
+    long computeHash() {
+        return Zobrist.compute(board, whiteTurn, castlingRights, enPassantSquare);
     }
 
     // Define um tabuleiro customizado. Usado para setups específicos ou testes.
+    // Os direitos de roque passam a ser os das peças que ainda não se moveram.
     public void setBoard(Board customBoard) {
         this.board = customBoard;
+        this.castlingRights = 0;
+        if (canCastle('w', true))  castlingRights |= CASTLE_WHITE_KINGSIDE;
+        if (canCastle('w', false)) castlingRights |= CASTLE_WHITE_QUEENSIDE;
+        if (canCastle('b', true))  castlingRights |= CASTLE_BLACK_KINGSIDE;
+        if (canCastle('b', false)) castlingRights |= CASTLE_BLACK_QUEENSIDE;
+        this.undoSize = 0;
+        resetHistory();
+        positionVersion++;
         notifyObservers();
     }
 
@@ -70,140 +182,233 @@ public class ChessModel implements Observable  {
         Position target = new Position(row, col);
         Piece piece = board.getPiece(selectedPiecePos.row, selectedPiecePos.col);
 
-        if (piece.isValidMove(selectedPiecePos, target, board)) {
-            if (!canMoveToEscapeCheck(selectedPiecePos, target)) {
-                return false;
-            }
+        // Procura o lance entre os movimentos legais da peça selecionada
+        getValidMoves(selectedPiecePos.row, selectedPiecePos.col, moveBuffer);
+        int move = moveBuffer.find(selectedPiecePos.toSquare(), target.toSquare());
 
-            // Trata movimento especial: en passant (remoção do peão capturado)
-            if (piece instanceof Pawn) {
-                if (target.equals(enPassantTarget) && board.isEmpty(target.row, target.col)) {
-                    int capturedRow = whiteTurn ? target.row + 1 : target.row - 1;
-                    board.setPiece(capturedRow, target.col, null); // Remove o peão capturado
-                }
-            }
+        if (move == Move.NONE) {
+            return false;
+        }
 
+        // Promoção: o peão é levado à última linha e o lance só é concluído em promotePawn,
+        // quando a peça escolhida for conhecida
+        if (Move.promotion(move) != 0) {
+            pendingPromotionMove = move;
+            pendingPromotionCaptured = board.getPiece(target.toSquare());
+            board.setPiece(target.toSquare(), piece);  // Move peão para a última linha
+            board.setPiece(selectedPiecePos.toSquare(), null);
+            pendingPromotionPos = target;
+            selectedPiecePos = null;
+            notifyObservers();
+            return true;
+        }
 
-            // Trata movimento especial: roque (movimenta a torre também)
-            if (piece instanceof King && Math.abs(target.col - selectedPiecePos.col) == 2) {
-                int rookCol   = (target.col > selectedPiecePos.col) ? 7 : 0;
-                Position rook = new Position(selectedPiecePos.row, rookCol);
+        // Executa o lance (inclui en passant, roque, relógio dos 50 lances e troca de turno)
+        makeMove(move);
+        selectedPiecePos = null;
+        notifyObservers();
+        return true;
+    }
 
-                // Valida sem alterar o jogo
-                if (!attemptCastling(selectedPiecePos, rook)) return false;
+    /**
+     * Executa um lance codificado (ver Move) e empilha um registro para desfazê-lo com unmakeMove.
+     * O registro guarda a peça capturada, os direitos de roque, a casa de en passant e o relógio
+     * dos 50 lances; trata en passant, roque e promoção. Não verifica se o lance é legal
+     * nem notifica observadores, de forma que pode ser usado em verificações e buscas.
+     */
+    public void makeMove(int move) {
+        if (undoSize == undoMoves.length) {
+            growUndoStack();
+        }
 
-                // Faz o movimento – primeiro rei, depois torre
-                int rookTargetCol = (rookCol == 7) ? 5 : 3;
-                board.movePiece(selectedPiecePos, target);
-                board.movePiece(rook, new Position(selectedPiecePos.row, rookTargetCol));
+        int from = Move.from(move);
+        int to = Move.to(move);
+        Piece piece = board.getPiece(from);
+        boolean isWhite = piece.isWhite();
 
-                selectedPiecePos = null;
-                pendingPromotionPos = null;
-                enPassantTarget = null;
-                whiteTurn = !whiteTurn;
-                return true;
-            }
-            
+        // No en passant o peão capturado está atrás da casa de destino
+        int capturedSquare = Move.isEnPassant(move) ? to + (isWhite ? 8 : -8) : to;
+        Piece captured = board.getPiece(capturedSquare);
 
-            // Atualiza a posição de en passant, se for um peão que se moveu duas casas
-            if (piece instanceof Pawn) {
-                if (Math.abs(target.row - selectedPiecePos.row) == 2) {
-                    enPassantTarget = new Position((target.row + selectedPiecePos.row) / 2, target.col);
-                } else {
-                    enPassantTarget = null; // Limpa se não for jogada válida para en passant
-                }
-            } else {
-                enPassantTarget = null; // Limpa se não for um peão
-            }
-            
-            // Se for avanço de peão ou captura, zera clock dos 50 lances
-            if (piece instanceof Pawn || (board.getPiece(target.row, target.col) != null)) {
-                halfmoveClock = 0;
-            } else {
-                halfmoveClock++;
-            }
+        boolean rookMoved = false;
+        if (Move.isCastling(move)) {
+            rookMoved = board.getPiece(castlingRookFrom(from, to)).hasMoved();
+        }
 
-            // Se foi a vez das pretas, incrementa fullMoveNumber
-            if (!whiteTurn) {
-                fullMoveNumber++;
-            }
+        undoMoves[undoSize] = move;
+        undoStates[undoSize] = packUndoState(piece.hasMoved(), rookMoved);
+        undoPieces[undoSize] = piece;
+        undoCaptured[undoSize] = captured;
+        undoSize++;
 
-            // Verifica promoção pendente
-            if (piece instanceof Pawn) {
-                if ((piece.isWhite() && target.row == 0) || (!piece.isWhite() && target.row == 7)) {
-                    board.movePiece(selectedPiecePos, target);  // Move peão para a última linha
-                    notifyObservers();
-                    pendingPromotionPos = target;
-                    selectedPiecePos = null;
-                    return true;
-                }
-            }
-            
-            // Move a peça principal
-            board.movePiece(selectedPiecePos, target);
-            notifyObservers();
-            selectedPiecePos = null;
-            whiteTurn = !whiteTurn;
-            
-            return true;
+        if (captured != null) {
+            board.setPiece(capturedSquare, null);
         }
-        return false;
+        board.setPiece(from, null);
+        board.setPiece(to, Move.promotion(move) != 0 ? Piece.create(Move.promotion(move), isWhite) : piece);
+        piece.setHasMoved(true);
+
+        // Roque: a torre passa para o outro lado do rei
+        if (Move.isCastling(move)) {
+            int rookFrom = castlingRookFrom(from, to);
+            Piece rook = board.getPiece(rookFrom);
+            board.setPiece(rookFrom, null);
+            board.setPiece((from + to) / 2, rook);
+            rook.setHasMoved(true);
+        }
+
+        castlingRights &= CASTLING_MASK[from] & CASTLING_MASK[to];
+        enPassantSquare = Move.isDoublePush(move) ? (from + to) / 2 : -1;
+
+        // Se for avanço de peão ou captura, zera clock dos 50 lances
+        if (piece instanceof Pawn || captured != null) {
+            halfmoveClock = 0;
+        } else {
+            halfmoveClock++;
+        }
+
+        // Se foi a vez das pretas, incrementa fullMoveNumber
+        if (!whiteTurn) {
+            fullMoveNumber++;
+        }
+        whiteTurn = !whiteTurn;
+
+        historyPly++;
+        hashHistory[historyPly & HISTORY_MASK] = getHash();
+        positionVersion++;
+    }
+
+    /**
+     * Passa a vez sem mover nenhuma peça ("lance nulo"), usado pela poda de lance nulo da busca.
+     * Apaga a casa de en passant e empilha um registro com Move.NONE, desfeito por unmakeMove.
+     * Não deve ser usado com o jogador da vez em xeque.
+     */
+    public void makeNullMove() {
+        if (undoSize == undoMoves.length) {
+            growUndoStack();
+        }
+        undoMoves[undoSize] = Move.NONE;
+        undoStates[undoSize] = packUndoState(false, false);
+        undoLastNullPly[undoSize] = lastNullPly;
+        undoSize++;
+
+        enPassantSquare = -1;
+        halfmoveClock++;
+        if (!whiteTurn) {
+            fullMoveNumber++;
+        }
+        whiteTurn = !whiteTurn;
+
+        historyPly++;
+        hashHistory[historyPly & HISTORY_MASK] = getHash();
+        lastNullPly = historyPly;
+        positionVersion++;
+    }
+
+    /**
+     * Desfaz o último lance feito com makeMove (ou makeNullMove), restaurando peças, turno, direitos
+     * de roque, casa de en passant e relógio dos 50 lances a partir do registro no topo da pilha.
+     */
+    public void unmakeMove() {
+        undoSize--;
+        int move = undoMoves[undoSize];
+        int state = undoStates[undoSize];
+        Piece piece = undoPieces[undoSize];
+        Piece captured = undoCaptured[undoSize];
+        undoPieces[undoSize] = null;
+        undoCaptured[undoSize] = null;
+
+        int from = Move.from(move);
+        int to = Move.to(move);
+
+        historyPly--;
+        positionVersion++;
+        whiteTurn = !whiteTurn;
+        if (!whiteTurn) {
+            fullMoveNumber--;
+        }
+
+        if (move == Move.NONE) {
+            enPassantSquare = ((state >>> 4) & 0x7F) - 1;
+            halfmoveClock = state >>> UNDO_HALFMOVE_SHIFT;
+            lastNullPly = undoLastNullPly[undoSize];
+            return;
+        }
+
+        if (Move.isCastling(move)) {
+            int rookFrom = castlingRookFrom(from, to);
+            Piece rook = board.getPiece((from + to) / 2);
+            board.setPiece((from + to) / 2, null);
+            board.setPiece(rookFrom, rook);
+            rook.setHasMoved((state & UNDO_ROOK_MOVED) != 0);
+        }
+
+        board.setPiece(to, null);
+        board.setPiece(from, piece);
+        piece.setHasMoved((state & UNDO_PIECE_MOVED) != 0);
+
+        if (captured != null) {
+            int capturedSquare = Move.isEnPassant(move) ? to + (piece.isWhite() ? 8 : -8) : to;
+            board.setPiece(capturedSquare, captured);
+        }
+
+        castlingRights = state & CASTLE_ALL;
+        enPassantSquare = ((state >>> 4) & 0x7F) - 1;
+        halfmoveClock = state >>> UNDO_HALFMOVE_SHIFT;
+    }
+
+    // Campos do estado irreversível empacotado em cada registro da pilha de desfazer:
+    // bits 0-3 direitos de roque, bits 4-10 casa de en passant + 1, bit 11 peça movida já tinha se movido,
+    // bit 12 torre do roque já tinha se movido, bits 13 em diante relógio dos 50 lances
+    private static final int UNDO_PIECE_MOVED = 1 << 11;
+    private static final int UNDO_ROOK_MOVED = 1 << 12;
+    private static final int UNDO_HALFMOVE_SHIFT = 13;
+
+    private int packUndoState(boolean pieceMoved, boolean rookMoved) {
+        return castlingRights
+            | ((enPassantSquare + 1) << 4)
+            | (pieceMoved ? UNDO_PIECE_MOVED : 0)
+            | (rookMoved ? UNDO_ROOK_MOVED : 0)
+            | (halfmoveClock << UNDO_HALFMOVE_SHIFT);
+    }
+
+    // Dobra a capacidade da pilha de desfazer (só acontece em partidas muito longas)
+    private void growUndoStack() {
+        int capacity = undoMoves.length * 2;
+        undoMoves = Arrays.copyOf(undoMoves, capacity);
+        undoStates = Arrays.copyOf(undoStates, capacity);
+        undoPieces = Arrays.copyOf(undoPieces, capacity);
+        undoCaptured = Arrays.copyOf(undoCaptured, capacity);
+        undoLastNullPly = Arrays.copyOf(undoLastNullPly, capacity);
+    }
+
+    // Casa de origem da torre no roque (canto do lado para onde o rei vai)
+    private static int castlingRookFrom(int kingFrom, int kingTo) {
+        return kingTo > kingFrom ? kingFrom + 3 : kingFrom - 4;
     }
 
 
 
     // Verifica se o rei da cor indicada está em cheque.
-    // A função percorre o tabuleiro procurando por ameaças ao rei.
+    // Parte da casa do rei e procura atacantes adversários (ver isSquareAttacked).
     public boolean isInCheck(boolean isWhite) {
         Position kingPos = findKingPosition(isWhite);
         if (kingPos == null) return false;
 
-        for (int row = 0; row < 8; row++) {
-            for (int col = 0; col < 8; col++) {
-                Piece piece = board.getPiece(row, col);
-                if (piece != null && piece.isWhite() != isWhite) {
-                    Position from = new Position(row, col);
-                    if (piece.isValidMove(from, kingPos, board)) {
-                        return true;
-                    }
-                }
-            }
-        }
-        return false;
+        return board.isSquareAttacked(kingPos.toSquare(), !isWhite);
     }
 
-    // Procura e retorna a posição do rei da cor especificada.
-    // Retorna null se o rei não for encontrado (teoricamente nunca deve acontecer).
-    private Position findKingPosition(boolean isWhite) {
-        for (int row = 0; row < 8; row++) {
-            for (int col = 0; col < 8; col++) {
-                Piece piece = board.getPiece(row, col);
-                if (piece instanceof King && piece.isWhite() == isWhite) {
-                    return new Position(row, col);
-                }
-            }
-        }
-        return null;
+    // Verifica se a casa (linha e coluna) é atacada por alguma peça da cor indicada.
+    // Usa tabelas de cavalo/rei, máscaras de peão e raios deslizantes a partir da própria casa.
+    public boolean isSquareAttacked(int row, int col, boolean byWhite) {
+        return board.isSquareAttacked(Bitboards.square(row, col), byWhite);
     }
 
-    // Verifica se mover uma peça de uma posição para outra remove o rei do cheque.
-    // Faz o movimento de forma temporária, verifica o estado, e depois desfaz tudo.
-    public boolean canMoveToEscapeCheck(Position from, Position to) {
-        Piece piece = board.getPiece(from.row, from.col);
-        boolean isWhite = piece.isWhite();
-        Piece captured = board.getPiece(to.row, to.col);
-        boolean movedBefore = piece.hasMoved();
-        boolean capturedMoved = captured != null && captured.hasMoved();
-
-        board.movePiece(from, to);
-        boolean stillInCheck = isInCheck(isWhite);
-        board.movePiece(to, from);
-        board.setPiece(to.row, to.col, captured);
-
-        piece.setHasMoved(movedBefore);
-        if (captured != null) captured.setHasMoved(capturedMoved);
-        
-        return !stillInCheck;
+    // Retorna a posição do rei da cor especificada, mantida pelo tabuleiro a cada lance (consulta O(1)).
+    // Retorna null se o rei não for encontrado (teoricamente nunca deve acontecer).
+    private Position findKingPosition(boolean isWhite) {
+        int square = board.kingSquare(isWhite);
+        return square < 0 ? null : Position.of(square);
     }
 
     // Retorna verdadeiro se for a vez das peças brancas jogarem.
@@ -239,11 +444,7 @@ public class ChessModel implements Observable  {
      * então a partida terminou em xeque-mate.
      */
     public boolean isCheckMate() {
-        boolean isWhite = whiteTurn;
-        if (!isInCheck(isWhite)) {
-            return false;
-        }
-        return !hasAnyLegalMove(isWhite);
+        return getGameStatus() == GameStatus.CHECKMATE;
     }
 
     /**
@@ -252,39 +453,143 @@ public class ChessModel implements Observable  {
      * nenhum movimento legal possível — o que caracteriza um empate.
      */
     public boolean isStalelMate() {
-        boolean isWhite = whiteTurn;
-        if (isInCheck(isWhite)) {
-            return false;
+        return getGameStatus() == GameStatus.STALEMATE;
+    }
+
+    /**
+     * Retorna a situação da partida na posição atual (em andamento, cheque, mate, afogamento ou empate).
+     * É calculada uma única vez por posição; as consultas seguintes, até o próximo lance, custam O(1).
+     */
+    public GameStatus getGameStatus() {
+        refreshPositionCache();
+        return cachedStatus;
+    }
+
+    // Recalcula os lances legais e a situação da partida se a posição mudou desde o último cálculo
+    private void refreshPositionCache() {
+        long hash = getHash();
+        if (cachedStatus != null && cachedVersion == positionVersion && cachedHash == hash) {
+            return;
+        }
+
+        legalMoves.clear();
+        MoveGenerator.generateLegal(board, whiteTurn, enPassantSquare, castlingRights, legalMoves);
+        boolean inCheck = isInCheck(whiteTurn);
+
+        if (legalMoves.size() == 0) {
+            cachedStatus = inCheck ? GameStatus.CHECKMATE : GameStatus.STALEMATE;
+        } else if (isInsufficientMaterial()) {
+            cachedStatus = GameStatus.DRAW_INSUFFICIENT_MATERIAL;
+        } else if (isThreefoldRepetition()) {
+            cachedStatus = GameStatus.DRAW_REPETITION;
+        } else if (isFiftyMoveRule()) {
+            cachedStatus = GameStatus.DRAW_FIFTY_MOVES;
+        } else {
+            cachedStatus = inCheck ? GameStatus.CHECK : GameStatus.ONGOING;
         }
-        return !hasAnyLegalMove(isWhite);
+        cachedVersion = positionVersion;
+        cachedHash = hash;
     }
 
     /**
-     * Verifica se o jogador da vez possui ao menos um movimento legal disponível.
-     * Percorre todas as peças do jogador no tabuleiro, testando todos os movimentos possíveis.
-     * Se existir ao menos um movimento válido que não coloque o próprio rei em cheque,
-     * então o jogador ainda pode jogar.
+     * Preenche a lista informada com todos os lances legais do jogador da vez (codificados, ver Move).
+     * A lista é esvaziada antes; nenhum lance é feito e desfeito no tabuleiro para verificar a legalidade.
      */
-    private boolean hasAnyLegalMove(boolean isWhite) {
-        for (int row = 0; row < 8; row++) {
-            for (int col = 0; col < 8; col++) {
-                Piece piece = board.getPiece(row, col);
-                if (piece != null && piece.isWhite() == isWhite) {
-                    Position from = new Position(row, col);
-                    for (int toRow = 0; toRow < 8; toRow++) {
-                        for (int toCol = 0; toCol < 8; toCol++) {
-                            Position to = new Position(toRow, toCol);
-                            if (piece.isValidMove(from, to, board)) {
-                                if (canMoveToEscapeCheck(from, to)) {
-                                    return true;
-                                }
-                            }
-                        }
-                    }
-                }
+    public void generateLegalMoves(MoveList moves) {
+        moves.clear();
+        MoveGenerator.generateLegal(board, whiteTurn, enPassantSquare, castlingRights, moves);
+    }
+
+    /**
+     * Verifica se a posição atual já ocorreu três vezes (empate por repetição).
+     * Compara a chave de Zobrist com as posições anteriores do mesmo lado a jogar, voltando
+     * apenas até o último lance irreversível (captura ou lance de peão), conforme halfmoveClock.
+     */
+    public boolean isThreefoldRepetition() {
+        return countRepetitions() >= 3;
+    }
+
+    // Quantas vezes a posição atual ocorreu (contando a própria) desde o último lance irreversível
+    // (e desde o último lance nulo da busca, se houver)
+    int countRepetitions() {
+        long hash = getHash();
+        int limit = Math.min(Math.min(halfmoveClock, historyPly - lastNullPly), HISTORY_SIZE - 1);
+        int count = 1;
+        for (int back = 2; back <= limit; back += 2) {
+            if (hashHistory[(historyPly - back) & HISTORY_MASK] == hash) {
+                count++;
             }
         }
-        return false;
+        return count;
+    }
+
+    /**
+     * Verifica se a posição atual já ocorreu antes desde o último lance irreversível.
+     * Usada pela busca, que trata qualquer repetição como empate (a partida real exige três).
+     */
+    public boolean isRepetition() {
+        return countRepetitions() >= 2;
+    }
+
+    /**
+     * Verifica a regra dos 50 lances: 100 meios-lances seguidos sem captura nem lance de peão.
+     */
+    public boolean isFiftyMoveRule() {
+        return halfmoveClock >= 100;
+    }
+
+    /**
+     * Verifica se nenhum dos lados tem material para dar xeque-mate (empate por material insuficiente):
+     * rei contra rei, rei e uma peça menor contra rei, ou apenas bispos, todos em casas da mesma cor.
+     * Usa os contadores de peças mantidos pelo tabuleiro, sem percorrer as casas.
+     */
+    public boolean isInsufficientMaterial() {
+        for (int side = 0; side < 2; side++) {
+            boolean isWhite = side == 0;
+            if (board.pieceCount(Piece.PAWN, isWhite) > 0 || board.pieceCount(Piece.ROOK, isWhite) > 0
+                    || board.pieceCount(Piece.QUEEN, isWhite) > 0) {
+                return false;
+            }
+        }
+
+        int knights = board.pieceCount(Piece.KNIGHT, true) + board.pieceCount(Piece.KNIGHT, false);
+        int bishops = board.pieceCount(Piece.BISHOP, true) + board.pieceCount(Piece.BISHOP, false);
+        if (knights + bishops <= 1) return true;
+        if (knights > 0) return false;
+
+        // Só bispos: se todos estiverem na mesma cor de casa, não há como dar mate
+        long allBishops = board.pieces(Piece.BISHOP, true) | board.pieces(Piece.BISHOP, false);
+        return (allBishops & Bitboards.LIGHT_SQUARES) == 0 || (allBishops & ~Bitboards.LIGHT_SQUARES) == 0;
+    }
+
+    /**
+     * Retorna o saldo material (brancas menos pretas) em centésimos de peão:
+     * peão 100, cavalo 320, bispo 330, torre 500, dama 900. Consulta O(1).
+     */
+    public int getMaterialBalance() {
+        return board.material(true) - board.material(false);
+    }
+
+    // Retorna true se o lado tiver alguma peça além do rei e dos peões (sem isso, zugzwang é comum)
+    public boolean hasNonPawnMaterial(boolean isWhite) {
+        return board.pieceCount(Piece.KNIGHT, isWhite) + board.pieceCount(Piece.BISHOP, isWhite)
+            + board.pieceCount(Piece.ROOK, isWhite) + board.pieceCount(Piece.QUEEN, isWhite) > 0;
+    }
+
+    /**
+     * Retorna o tipo da peça na casa (índice 0 = a8 ... 63 = h1): 0 peão, 1 cavalo, 2 bispo,
+     * 3 torre, 4 dama, 5 rei; ou -1 se a casa estiver vazia. Usado pela ordenação de lances da busca.
+     */
+    public int getPieceType(int square) {
+        int index = board.pieceIndexAt(square);
+        return index == BitboardSet.EMPTY ? -1 : index % 6;
+    }
+
+    // Reinicia o histórico de posições com a posição atual (após carregar FEN ou trocar o tabuleiro)
+    private void resetHistory() {
+        historyPly = 0;
+        lastNullPly = 0;
+        hashHistory[0] = getHash();
     }
 
     /**
@@ -296,27 +601,33 @@ public class ChessModel implements Observable  {
     public boolean promotePawn(String pieceType) {
         if (pendingPromotionPos == null) return false;
 
-        boolean isWhite = board.getPiece(pendingPromotionPos.row, pendingPromotionPos.col).isWhite();
-        Piece newPiece;
+        int promotion;
 
         String type = pieceType.toLowerCase();
 
         if (type.equals("queen")) {
-            newPiece = new Queen(isWhite);
+            promotion = Piece.QUEEN;
         } else if (type.equals("rook")) {
-            newPiece = new Rook(isWhite);
+            promotion = Piece.ROOK;
         } else if (type.equals("bishop")) {
-            newPiece = new Bishop(isWhite);
+            promotion = Piece.BISHOP;
         } else if (type.equals("knight")) {
-            newPiece = new Knight(isWhite);
+            promotion = Piece.KNIGHT;
         } else {
             throw new IllegalArgumentException("Peça inválida para promoção: " + pieceType);
         }
 
-        board.setPiece(pendingPromotionPos.row, pendingPromotionPos.col, newPiece);
-        notifyObservers();
+        // Devolve o peão à casa de origem e conclui o lance com a peça escolhida
+        int from = Move.from(pendingPromotionMove);
+        int to = Move.to(pendingPromotionMove);
+        board.setPiece(from, board.getPiece(to));
+        board.setPiece(to, pendingPromotionCaptured);
+        makeMove(Move.withPromotion(pendingPromotionMove, promotion));
+
         pendingPromotionPos = null;
-        whiteTurn = !whiteTurn;
+        pendingPromotionMove = Move.NONE;
+        pendingPromotionCaptured = null;
+        notifyObservers();
         return true;
     }
 
@@ -333,26 +644,43 @@ public class ChessModel implements Observable  {
      * Considera tanto as regras individuais de movimentação da peça quanto a necessidade
      * de o movimento não deixar o próprio rei em cheque.
      * Caso a posição não contenha uma peça válida da vez, a lista retornada estará vazia.
+     * Cada casa de destino aparece uma única vez (as promoções contam como um só destino).
      */
     public List<int[]> getValidMovesForPiece(int row, int col) {
         List<int[]> validMoves = new ArrayList<>();
 
+        getValidMoves(row, col, moveBuffer);
+        for (int i = 0; i < moveBuffer.size(); i++) {
+            int move = moveBuffer.get(i);
+            if (!Move.isUnderPromotion(move)) {
+                validMoves.add(new int[]{Move.row(Move.to(move)), Move.col(Move.to(move))});
+            }
+        }
+
+        return validMoves;
+    }
+
+    /**
+     * Preenche a lista informada com os movimentos legais (codificados, ver Move) da peça na posição.
+     * Não aloca objetos: a lista é esvaziada e reaproveitada a cada chamada.
+     * Os lances são lidos da lista de lances legais já calculada para a posição.
+     * Caso a posição não contenha uma peça válida da vez, a lista fica vazia.
+     */
+    public void getValidMoves(int row, int col, MoveList moves) {
+        moves.clear();
+
         Piece piece = board.getPiece(row, col);
         if (piece == null || piece.isWhite() != whiteTurn) {
-            return validMoves;
+            return;
         }
 
-        Position from = new Position(row, col);
-        for (int r = 0; r < 8; r++) {
-            for (int c = 0; c < 8; c++) {
-                Position to = new Position(r, c);
-                if (piece.isValidMove(from, to, board) && canMoveToEscapeCheck(from, to)) {
-                    validMoves.add(new int[]{r, c});
-                }
+        refreshPositionCache();
+        int from = Bitboards.square(row, col);
+        for (int i = 0; i < legalMoves.size(); i++) {
+            if (Move.from(legalMoves.get(i)) == from) {
+                moves.add(legalMoves.get(i));
             }
         }
-
-        return validMoves;
     }
     
     /**  Retorna true se o roque é legal; NÃO mexe no tabuleiro  */
@@ -362,9 +690,19 @@ public class ChessModel implements Observable  {
 
         if (!(king instanceof King) || !(rook instanceof Rook)) return false;
         if (king.isWhite() != whiteTurn)                     return false;
-        if (king.hasMoved() || rook.hasMoved())              return false;
         if (kingPos.row != rookPos.row)                      return false;
 
+        // o direito de roque daquele lado ainda precisa existir
+        int right;
+        if (kingPos.toSquare() == WHITE_KING_SQUARE && king.isWhite()) {
+            right = (rookPos.col == 7) ? CASTLE_WHITE_KINGSIDE : (rookPos.col == 0) ? CASTLE_WHITE_QUEENSIDE : 0;
+        } else if (kingPos.toSquare() == BLACK_KING_SQUARE && !king.isWhite()) {
+            right = (rookPos.col == 7) ? CASTLE_BLACK_KINGSIDE : (rookPos.col == 0) ? CASTLE_BLACK_QUEENSIDE : 0;
+        } else {
+            right = 0;
+        }
+        if ((castlingRights & right) == 0)                   return false;
+
         int dir = (rookPos.col > kingPos.col) ? 1 : -1;
 
         // casas entre rei e torre devem estar vazias
@@ -374,10 +712,11 @@ public class ChessModel implements Observable  {
         // rei não pode estar em cheque
         if (isInCheck(king.isWhite())) return false;
 
-        // nem pode atravessar casas atacadas
+        // nem pode atravessar casas atacadas (o rei sai da casa de origem, então ela não bloqueia ataques)
+        long occupied = board.occupancy() & ~Bitboards.bit(kingPos.toSquare());
         for (int i = 1; i <= 2; i++) {
-            Position step = new Position(kingPos.row, kingPos.col + i * dir);
-            if (!canMoveToEscapeCheck(kingPos, step)) return false;
+            int step = Bitboards.square(kingPos.row, kingPos.col + i * dir);
+            if (board.attackersTo(step, !king.isWhite(), occupied) != 0) return false;
         }
         return true;   // ←  só diz se pode
     }
@@ -386,14 +725,14 @@ public class ChessModel implements Observable  {
     
     // Retorna a posição atual válida para en passant, ou null se não houver
     public Position getEnPassantTarget() {
-        return enPassantTarget;
+        return enPassantSquare < 0 ? null : Position.of(enPassantSquare);
     }
     
     /**
      * Define manualmente o alvo de en passant (usado principalmente para testes).
      */
     public void setEnPassantTarget(Position pos) {
-        this.enPassantTarget = pos;
+        this.enPassantSquare = (pos == null) ? -1 : pos.toSquare();
     }
 
     /**
@@ -404,13 +743,14 @@ public class ChessModel implements Observable  {
     }
 
     private boolean canCastle(char color, boolean kingside) {
-        int row = (color == 'w') ? 7 : 0;
-        Piece king = board.getPiece(row, 4);
-        Piece rook = kingside ? board.getPiece(row, 7) : board.getPiece(row, 0);
+        boolean isWhite = (color == 'w');
+        int row = isWhite ? 7 : 0;
+        int kingSquare = Bitboards.square(row, 4);
+        int rookSquare = Bitboards.square(row, kingside ? 7 : 0);
 
-        if (!(king instanceof King) || !(rook instanceof Rook)) return false;
-        if (king.isWhite() != (color == 'w') || rook.isWhite() != (color == 'w')) return false;
-        if (king.hasMoved() || rook.hasMoved()) return false;
+        if (board.pieceIndexAt(kingSquare) != BitboardSet.index(Piece.KING, isWhite)) return false;
+        if (board.pieceIndexAt(rookSquare) != BitboardSet.index(Piece.ROOK, isWhite)) return false;
+        if (board.getPiece(kingSquare).hasMoved() || board.getPiece(rookSquare).hasMoved()) return false;
 
         return true;
     }
@@ -419,19 +759,19 @@ public class ChessModel implements Observable  {
     public String generateFEN() {
         StringBuilder fen = new StringBuilder();
 
-        // Parte 1: tabuleiro
+        // Parte 1: tabuleiro (índice da peça lido do bitboard)
         for (int row = 0; row < 8; row++) {
             int empty = 0;
             for (int col = 0; col < 8; col++) {
-                Piece p = board.getPiece(row, col);
-                if (p == null) {
+                int index = board.pieceIndexAt(Bitboards.square(row, col));
+                if (index == BitboardSet.EMPTY) {
                     empty++;
                 } else {
                     if (empty > 0) {
                         fen.append(empty);
                         empty = 0;
                     }
-                    fen.append(getFENSymbol(p));
+                    fen.append(FEN_SYMBOLS.charAt(index));
                 }
             }
             if (empty > 0) {
@@ -447,18 +787,18 @@ public class ChessModel implements Observable  {
 
         // Parte 3: direitos de roque
         StringBuilder castling = new StringBuilder();
-        if (canCastle('w', true)) castling.append('K');
-        if (canCastle('w', false)) castling.append('Q');
-        if (canCastle('b', true)) castling.append('k');
-        if (canCastle('b', false)) castling.append('q');
+        if ((castlingRights & CASTLE_WHITE_KINGSIDE) != 0) castling.append('K');
+        if ((castlingRights & CASTLE_WHITE_QUEENSIDE) != 0) castling.append('Q');
+        if ((castlingRights & CASTLE_BLACK_KINGSIDE) != 0) castling.append('k');
+        if ((castlingRights & CASTLE_BLACK_QUEENSIDE) != 0) castling.append('q');
         if (castling.length() == 0) castling.append('-');
         fen.append(' ').append(castling);
 
         // Parte 4: en passant
         fen.append(' ');
-        if (enPassantTarget != null) {
-            char file = (char) ('a' + enPassantTarget.col);
-            char rank = (char) ('8' - enPassantTarget.row);
+        if (enPassantSquare >= 0) {
+            char file = (char) ('a' + Bitboards.col(enPassantSquare));
+            char rank = (char) ('8' - Bitboards.row(enPassantSquare));
             fen.append(file).append(rank);
         } else {
             fen.append('-');
@@ -473,23 +813,6 @@ public class ChessModel implements Observable  {
         return fen.toString();
     }
     
- // Método auxiliar que converte uma peça em seu símbolo FEN correspondente.
- //recebe: piece Peça a ser convertida
- //retorna: a peça na notação FEN
-    private char getFENSymbol(Piece piece) {
-        char symbol;
-
-        if (piece instanceof King) symbol = 'k';
-        else if (piece instanceof Queen) symbol = 'q';
-        else if (piece instanceof Rook) symbol = 'r';
-        else if (piece instanceof Bishop) symbol = 'b';
-        else if (piece instanceof Knight) symbol = 'n';
-        else if (piece instanceof Pawn) symbol = 'p';
-        else symbol = '?';
-
-        return piece.isWhite() ? Character.toUpperCase(symbol) : symbol;
-    }
-
  //Carrega um estado de jogo a partir de uma string FEN.
  //recebe: fen String FEN contendo o estado do jogo a ser carregado
  //throws: IllegalArgumentException se o formato FEN for inválido
@@ -569,18 +892,28 @@ public class ChessModel implements Observable  {
             board.getPiece(0,0).setHasMoved(true);
         }
 
+        // direitos de roque, conferidos com as peças que estão nos cantos
+        this.castlingRights = 0;
+        if (castlingPart.contains("K") && canCastle('w', true))  castlingRights |= CASTLE_WHITE_KINGSIDE;
+        if (castlingPart.contains("Q") && canCastle('w', false)) castlingRights |= CASTLE_WHITE_QUEENSIDE;
+        if (castlingPart.contains("k") && canCastle('b', true))  castlingRights |= CASTLE_BLACK_KINGSIDE;
+        if (castlingPart.contains("q") && canCastle('b', false)) castlingRights |= CASTLE_BLACK_QUEENSIDE;
+
         // en passant
         if (!enPassantPart.equals("-")) {
             int colEp = enPassantPart.charAt(0) - 'a';
             int rowEp = '8' - enPassantPart.charAt(1);
-            this.enPassantTarget = new Position(rowEp, colEp);
+            this.enPassantSquare = new Position(rowEp, colEp).toSquare();
         } else {
-            this.enPassantTarget = null;
+            this.enPassantSquare = -1;
         }
+        this.undoSize = 0;
 
         // opcional: meio-lances e fullMoveNumber
         this.halfmoveClock = (parts.length > 4) ? Integer.parseInt(parts[4]) : 0;
         this.fullMoveNumber = (parts.length > 5) ? Integer.parseInt(parts[5]) : 1;
+        resetHistory();
+        positionVersion++;
     }
 
     //Solicita a exibição do menu de salvamento do jogo.
@@ -0,0 +1,76 @@
+package model;
+
+/**
+ * Avaliação estática da posição, em centésimos de peão.
+ * Usa as tabelas de peça-casa de meio-jogo e de final (PieceSquareTables), interpoladas pela fase
+ * da partida: com todas as peças vale a tabela de meio-jogo, só com reis e peões vale a de final.
+ * As somas das tabelas e a fase são mantidas pelo tabuleiro a cada lance feito ou desfeito,
+ * então avaliar é só uma interpolação, sem percorrer o tabuleiro.
+ * Somam-se ainda os termos de estrutura de peões (PawnStructure). Com uma PawnHashTable eles vêm
+ * da tabela na maioria das vezes; sem ela são calculados a cada chamada.
+ *
+ * Exemplo: Evaluation.evaluate(model) > 0 quando o jogador da vez está melhor.
+ */
+public final class Evaluation {
+
+    private Evaluation() {}
+
+    // Avaliação do ponto de vista do jogador da vez (positiva se ele estiver melhor)
+    public static int evaluate(ChessModel position) {
+        int score = evaluateForWhite(position);
+        return position.isWhiteTurn() ? score : -score;
+    }
+
+    // Igual a evaluate, mas consultando a tabela de peões para os termos de estrutura de peões
+    public static int evaluate(ChessModel position, PawnHashTable pawnTable) {
+        int score = evaluateForWhite(position, pawnTable);
+        return position.isWhiteTurn() ? score : -score;
+    }
+
+    // Avaliação do ponto de vista das brancas (positiva se as brancas estiverem melhor)
+    public static int evaluateForWhite(ChessModel position) {
+        Board board = position.getBoard();
+        long whitePawns = board.pieces(Piece.PAWN, true);
+        long blackPawns = board.pieces(Piece.PAWN, false);
+        return combine(board, PawnStructure.evaluate(whitePawns, blackPawns),
+                PawnStructure.passedPawns(whitePawns, blackPawns));
+    }
+
+    public static int evaluateForWhite(ChessModel position, PawnHashTable pawnTable) {
+        Board board = position.getBoard();
+        int slot = pawnTable.lookup(board);
+        return combine(board, pawnTable.score(slot), pawnTable.passedPawns(slot));
+    }
+
+    // Junta as tabelas de peça-casa com os termos de peões (empacotados) e interpola pela fase
+    private static int combine(Board board, int pawnScore, long passed) {
+        int pawns = pawnScore + PawnStructure.blockedPassed(board, passed) + PawnStructure.shield(board);
+        return taper(board.mgScore() + PawnStructure.mg(pawns), board.egScore() + PawnStructure.eg(pawns), board.phase());
+    }
+
+    // Interpola as avaliações de meio-jogo e de final pela fase (limitada a MAX_PHASE após promoções)
+    static int taper(int mg, int eg, int phase) {
+        int mgPhase = Math.min(phase, PieceSquareTables.MAX_PHASE);
+        return (mg * mgPhase + eg * (PieceSquareTables.MAX_PHASE - mgPhase)) / PieceSquareTables.MAX_PHASE;
+    }
+
+    // Calcula a mesma avaliação (brancas) percorrendo o tabuleiro; usada para conferir a versão incremental
+    static int evaluateFromScratch(Board board) {
+        int mg = 0;
+        int eg = 0;
+        int phase = 0;
+        for (int sq = 0; sq < 64; sq++) {
+            int index = board.pieceIndexAt(sq);
+            if (index == BitboardSet.EMPTY) continue;
+            mg += PieceSquareTables.MG[index][sq];
+            eg += PieceSquareTables.EG[index][sq];
+            phase += PieceSquareTables.PHASE[index % 6];
+        }
+        long whitePawns = board.pieces(Piece.PAWN, true);
+        long blackPawns = board.pieces(Piece.PAWN, false);
+        int pawns = PawnStructure.evaluate(whitePawns, blackPawns)
+                + PawnStructure.blockedPassed(board, PawnStructure.passedPawns(whitePawns, blackPawns))
+                + PawnStructure.shield(board);
+        return taper(mg + PawnStructure.mg(pawns), eg + PawnStructure.eg(pawns), phase);
+    }
+}
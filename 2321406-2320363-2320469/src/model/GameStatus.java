@@ -0,0 +1,19 @@
+package model;
+
+/**
+ * Situação da partida na posição atual, do ponto de vista do jogador da vez.
+ */
+public enum GameStatus {
+    ONGOING,    // partida em andamento, sem cheque
+    CHECK,      // o rei do jogador da vez está em cheque, mas há lances
+    CHECKMATE,  // xeque-mate: em cheque e sem lances legais
+    STALEMATE,  // afogamento: sem cheque e sem lances legais
+    DRAW_INSUFFICIENT_MATERIAL, // empate: nenhum lado tem material para dar mate
+    DRAW_REPETITION,            // empate por repetição tripla de posição
+    DRAW_FIFTY_MOVES;           // empate pela regra dos 50 lances
+
+    // Retorna true para qualquer tipo de empate que não seja afogamento
+    public boolean isDraw() {
+        return this == DRAW_INSUFFICIENT_MATERIAL || this == DRAW_REPETITION || this == DRAW_FIFTY_MOVES;
+    }
+}
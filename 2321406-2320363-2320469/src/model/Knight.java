@@ -11,16 +11,21 @@ class Knight extends Piece {
     // Retorna: true se o movimento for em "L" e o destino estiver vazio ou com peça adversária
     @Override
     public boolean isValidMove(Position from, Position to, Board board) {
-        int dx = Math.abs(from.row - to.row);
-        int dy = Math.abs(from.col - to.col);
+        int target = to.toSquare();
 
-        boolean isLShape = (dx == 2 && dy == 1) || (dx == 1 && dy == 2);
+        // O destino deve estar entre as casas em "L" pré-calculadas para a origem
+        boolean isLShape = (Bitboards.KNIGHT_ATTACKS[from.toSquare()] & Bitboards.bit(target)) != 0;
 
-        if (isLShape) {
-            Piece destinationPiece = board.getPiece(to.row, to.col);
-            return destinationPiece == null || destinationPiece.isWhite() != this.isWhite;
-        }
+        return isLShape && isFreeOrEnemy(target, board);
+    }
 
-        return false;
+    @Override
+    long attacks(int square, long occupied) {
+        return Bitboards.KNIGHT_ATTACKS[square];
+    }
+
+    @Override
+    public int getType() {
+        return KNIGHT;
     }
 }
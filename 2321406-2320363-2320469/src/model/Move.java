@@ -0,0 +1,89 @@
+package model;
+
+/**
+ * Codificação compacta de um movimento em um único int, sem alocar objetos:
+ * bits 0-5 casa de origem, bits 6-11 casa de destino (0 a 63, linha * 8 + coluna),
+ * bits 12-14 tipo da peça de promoção (0 se não houver) e, acima deles, as flags do lance.
+ */
+public final class Move {
+    // Valor que nunca representa um lance válido (origem e destino iguais)
+    public static final int NONE = 0;
+
+    public static final int FLAG_CAPTURE = 1 << 15;
+    public static final int FLAG_EN_PASSANT = 1 << 16;
+    public static final int FLAG_CASTLING = 1 << 17;
+    public static final int FLAG_DOUBLE_PUSH = 1 << 18;
+
+    private Move() {
+    }
+
+    // Monta o movimento a partir da origem, destino, tipo de promoção (0 se não houver) e flags
+    public static int encode(int from, int to, int promotion, int flags) {
+        return from | (to << 6) | (promotion << 12) | flags;
+    }
+
+    // Retorna o mesmo movimento com outra peça de promoção
+    public static int withPromotion(int move, int promotion) {
+        return (move & ~(0x7 << 12)) | (promotion << 12);
+    }
+
+    public static int from(int move) {
+        return move & 0x3F;
+    }
+
+    public static int to(int move) {
+        return (move >>> 6) & 0x3F;
+    }
+
+    // Retorna o tipo da peça de promoção (cavalo, bispo, torre ou dama), ou 0 se não for promoção
+    public static int promotion(int move) {
+        return (move >>> 12) & 0x7;
+    }
+
+    // Retorna true para promoções a torre, bispo ou cavalo (mesmo destino da promoção a dama)
+    public static boolean isUnderPromotion(int move) {
+        int promotion = promotion(move);
+        return promotion != 0 && promotion != Piece.QUEEN;
+    }
+
+    public static boolean isCapture(int move) {
+        return (move & FLAG_CAPTURE) != 0;
+    }
+
+    public static boolean isEnPassant(int move) {
+        return (move & FLAG_EN_PASSANT) != 0;
+    }
+
+    public static boolean isCastling(int move) {
+        return (move & FLAG_CASTLING) != 0;
+    }
+
+    public static boolean isDoublePush(int move) {
+        return (move & FLAG_DOUBLE_PUSH) != 0;
+    }
+
+    // Linha (0 a 7) de uma casa codificada no movimento
+    public static int row(int square) {
+        return square >>> 3;
+    }
+
+    // Coluna (0 a 7) de uma casa codificada no movimento
+    public static int col(int square) {
+        return square & 7;
+    }
+
+    // Retorna o lance em notação de coordenadas (ex.: "e2e4", "e7e8q")
+    public static String toString(int move) {
+        StringBuilder sb = new StringBuilder(5);
+        appendSquare(sb, from(move));
+        appendSquare(sb, to(move));
+        if (promotion(move) != 0) {
+            sb.append("pnbrqk".charAt(promotion(move)));
+        }
+        return sb.toString();
+    }
+
+    private static void appendSquare(StringBuilder sb, int square) {
+        sb.append((char) ('a' + col(square))).append((char) ('8' - row(square)));
+    }
+}
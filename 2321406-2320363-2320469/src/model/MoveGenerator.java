@@ -0,0 +1,259 @@
+package model;
+
+// Gerador de movimentos a partir dos bitboards.
+// Emite apenas as casas realmente alcançáveis por cada peça (sem testar as 64 casas do tabuleiro).
+// generate / generateForPiece produzem lances pseudolegais; generateLegal / generateLegalForPiece
+// calculam uma vez por posição as peças cravadas, os atacantes do rei e a máscara de fuga do cheque,
+// e só emitem lances legais, sem precisar fazer e desfazer cada lance.
+// O modelo só usa a geração legal; a pseudolegal fica apenas como referência nos testes
+// (MoveGeneratorTest compara as duas, filtrando a pseudolegal com fazer/desfazer).
+final class MoveGenerator {
+
+    private MoveGenerator() {
+    }
+
+    // Gera os movimentos de todas as peças da cor indicada.
+    // enPassantSquare: casa alvo de en passant (0 a 63), ou -1 se não houver
+    // castlingRights: direitos de roque ainda disponíveis (máscara ChessModel.CASTLE_*)
+    static void generate(Board board, boolean isWhite, int enPassantSquare, int castlingRights, MoveList moves) {
+        long own = board.occupancy(isWhite);
+        while (own != 0) {
+            int from = Long.numberOfTrailingZeros(own);
+            own &= own - 1;
+            generateForPiece(board, from, enPassantSquare, castlingRights, moves);
+        }
+    }
+
+    // Gera os movimentos da peça que está na casa "from" (nada é gerado se a casa estiver vazia).
+    static void generateForPiece(Board board, int from, int enPassantSquare, int castlingRights, MoveList moves) {
+        Piece piece = board.getPiece(from);
+        if (piece == null) return;
+
+        boolean isWhite = piece.isWhite();
+        long enemies = board.occupancy(!isWhite);
+
+        switch (piece.getType()) {
+            case Piece.PAWN:
+                generatePawnMoves(board, from, isWhite, ~0L, moves);
+                if (enPassantSquare >= 0
+                        && (pawnAttacks(from, isWhite) & ~board.occupancy() & Bitboards.bit(enPassantSquare)) != 0) {
+                    moves.add(Move.encode(from, enPassantSquare, 0, Move.FLAG_CAPTURE | Move.FLAG_EN_PASSANT));
+                }
+                break;
+            case Piece.KING:
+                addMoves(from, piece.attacks(from, board.occupancy()) & ~board.occupancy(isWhite), enemies, moves);
+                generateCastling(board, from, isWhite, castlingRights, moves);
+                break;
+            default:
+                // Cavalo, bispo, torre e dama: ataques menos as casas com peças aliadas
+                addMoves(from, piece.attacks(from, board.occupancy()) & ~board.occupancy(isWhite), enemies, moves);
+                break;
+        }
+    }
+
+    // Gera apenas os lances legais de todas as peças da cor indicada
+    static void generateLegal(Board board, boolean isWhite, int enPassantSquare, int castlingRights, MoveList moves) {
+        int king = board.kingSquare(isWhite);
+        long checkers = checkers(board, king, isWhite);
+        long pinned = pinned(board, king, isWhite);
+        long checkMask = checkMask(king, checkers);
+
+        long own = board.occupancy(isWhite);
+        while (own != 0) {
+            int from = Long.numberOfTrailingZeros(own);
+            own &= own - 1;
+            addLegalMoves(board, from, isWhite, king, checkers, pinned, checkMask, enPassantSquare, castlingRights, moves);
+        }
+    }
+
+    // Gera apenas os lances legais da peça que está na casa "from" (nada é gerado se a casa estiver vazia)
+    static void generateLegalForPiece(Board board, int from, int enPassantSquare, int castlingRights, MoveList moves) {
+        Piece piece = board.getPiece(from);
+        if (piece == null) return;
+
+        boolean isWhite = piece.isWhite();
+        int king = board.kingSquare(isWhite);
+        long checkers = checkers(board, king, isWhite);
+        addLegalMoves(board, from, isWhite, king, checkers, pinned(board, king, isWhite), checkMask(king, checkers),
+                enPassantSquare, castlingRights, moves);
+    }
+
+    // Peças adversárias que dão cheque no rei (0 se não houver rei no tabuleiro)
+    private static long checkers(Board board, int king, boolean isWhite) {
+        return king < 0 ? 0L : board.attackersTo(king, !isWhite, board.occupancy());
+    }
+
+    // Casas onde uma peça (que não o rei) pode parar para resolver o cheque:
+    // tudo se não houver cheque, a casa do atacante e o caminho até o rei num cheque simples, nada no duplo
+    private static long checkMask(int king, long checkers) {
+        if (checkers == 0) return ~0L;
+        if ((checkers & (checkers - 1)) != 0) return 0L;
+        int checker = Long.numberOfTrailingZeros(checkers);
+        return Bitboards.BETWEEN[king][checker] | checkers;
+    }
+
+    // Peças da cor indicada que são a única peça entre o próprio rei e uma peça deslizante adversária
+    private static long pinned(Board board, int king, boolean isWhite) {
+        if (king < 0) return 0L;
+
+        long queens = board.pieces(Piece.QUEEN, !isWhite);
+        long snipers = (Magics.rookAttacks(king, 0L) & (board.pieces(Piece.ROOK, !isWhite) | queens))
+                     | (Magics.bishopAttacks(king, 0L) & (board.pieces(Piece.BISHOP, !isWhite) | queens));
+        long occupied = board.occupancy();
+        long pinned = 0L;
+        while (snipers != 0) {
+            int sniper = Long.numberOfTrailingZeros(snipers);
+            snipers &= snipers - 1;
+            long blockers = Bitboards.BETWEEN[king][sniper] & occupied;
+            if (blockers != 0 && (blockers & (blockers - 1)) == 0) {
+                pinned |= blockers & board.occupancy(isWhite);
+            }
+        }
+        return pinned;
+    }
+
+    // Lances legais de uma peça, usando as informações de cheque e cravada já calculadas para a posição
+    private static void addLegalMoves(Board board, int from, boolean isWhite, int king, long checkers, long pinned,
+                                      long checkMask, int enPassantSquare, int castlingRights, MoveList moves) {
+        Piece piece = board.getPiece(from);
+        long enemies = board.occupancy(!isWhite);
+
+        if (piece.getType() == Piece.KING) {
+            generateLegalKingMoves(board, from, isWhite, checkers == 0, castlingRights, moves);
+            return;
+        }
+
+        // Peça cravada só anda sobre a linha que a liga ao próprio rei
+        long allowed = checkMask;
+        if ((pinned & Bitboards.bit(from)) != 0) {
+            allowed &= Bitboards.LINE[king][from];
+        }
+        if (allowed == 0) return;
+
+        if (piece.getType() == Piece.PAWN) {
+            generatePawnMoves(board, from, isWhite, allowed, moves);
+            if (enPassantSquare >= 0 && isLegalEnPassant(board, from, enPassantSquare, isWhite, king)) {
+                moves.add(Move.encode(from, enPassantSquare, 0, Move.FLAG_CAPTURE | Move.FLAG_EN_PASSANT));
+            }
+        } else {
+            addMoves(from, piece.attacks(from, board.occupancy()) & ~board.occupancy(isWhite) & allowed, enemies, moves);
+        }
+    }
+
+    // O rei vai para casas não atacadas, considerando que ele próprio deixa de bloquear os raios adversários.
+    // O roque exige que o rei não esteja em cheque e não atravesse casas atacadas.
+    private static void generateLegalKingMoves(Board board, int from, boolean isWhite, boolean notInCheck,
+                                               int castlingRights, MoveList moves) {
+        long occupied = board.occupancy() & ~Bitboards.bit(from);
+        long targets = Bitboards.KING_ATTACKS[from] & ~board.occupancy(isWhite);
+        long enemies = board.occupancy(!isWhite);
+        while (targets != 0) {
+            int to = Long.numberOfTrailingZeros(targets);
+            targets &= targets - 1;
+            if (board.attackersTo(to, !isWhite, occupied) == 0) {
+                int flags = (enemies & Bitboards.bit(to)) != 0 ? Move.FLAG_CAPTURE : 0;
+                moves.add(Move.encode(from, to, 0, flags));
+            }
+        }
+
+        if (!notInCheck) return;
+
+        int first = moves.size();
+        generateCastling(board, from, isWhite, castlingRights, moves);
+        for (int i = moves.size() - 1; i >= first; i--) {
+            int dir = Move.to(moves.get(i)) > from ? 1 : -1;
+            if (board.attackersTo(from + dir, !isWhite, occupied) != 0
+                    || board.attackersTo(from + 2 * dir, !isWhite, occupied) != 0) {
+                moves.removeAt(i);
+            }
+        }
+    }
+
+    // En passant retira duas peças da mesma linha de uma vez, por isso é verificado com a ocupação resultante
+    // (cobre a cravada horizontal e o cheque dado pelo próprio peão que avançou duas casas)
+    private static boolean isLegalEnPassant(Board board, int from, int enPassantSquare, boolean isWhite, int king) {
+        long empty = ~board.occupancy();
+        if ((pawnAttacks(from, isWhite) & empty & Bitboards.bit(enPassantSquare)) == 0) return false;
+        if (king < 0) return true;
+
+        int capturedSquare = enPassantSquare + (isWhite ? 8 : -8);
+        long occupied = (board.occupancy() & ~Bitboards.bit(from) & ~Bitboards.bit(capturedSquare))
+                      | Bitboards.bit(enPassantSquare);
+        return (board.attackersTo(king, !isWhite, occupied) & ~Bitboards.bit(capturedSquare)) == 0;
+    }
+
+    private static long pawnAttacks(int from, boolean isWhite) {
+        return Bitboards.PAWN_ATTACKS[isWhite ? BitboardSet.WHITE : BitboardSet.BLACK][from];
+    }
+
+    // Adiciona um movimento para cada casa do bitboard de destinos, marcando as capturas
+    private static void addMoves(int from, long targets, long enemies, MoveList moves) {
+        while (targets != 0) {
+            int to = Long.numberOfTrailingZeros(targets);
+            targets &= targets - 1;
+            int flags = (enemies & Bitboards.bit(to)) != 0 ? Move.FLAG_CAPTURE : 0;
+            moves.add(Move.encode(from, to, 0, flags));
+        }
+    }
+
+    // Avanços simples e duplos, capturas diagonais e promoções do peão (o en passant é tratado à parte).
+    // allowed: casas de destino permitidas (todas nos lances pseudolegais)
+    private static void generatePawnMoves(Board board, int from, boolean isWhite, long allowed, MoveList moves) {
+        int step = isWhite ? -8 : 8;
+        int startRow = isWhite ? 6 : 1;
+        int lastRow = isWhite ? 0 : 7;
+
+        // Peão parado na última linha (promoção pendente) não se move
+        int next = from + step;
+        if (next < 0 || next >= 64) return;
+
+        long empty = ~board.occupancy();
+        if ((empty & Bitboards.bit(next)) != 0) {
+            if ((allowed & Bitboards.bit(next)) != 0) {
+                addPawnMove(from, next, 0, lastRow, moves);
+            }
+            if (Bitboards.row(from) == startRow && (empty & allowed & Bitboards.bit(next + step)) != 0) {
+                moves.add(Move.encode(from, next + step, 0, Move.FLAG_DOUBLE_PUSH));
+            }
+        }
+
+        long captures = pawnAttacks(from, isWhite) & board.occupancy(!isWhite) & allowed;
+        while (captures != 0) {
+            int to = Long.numberOfTrailingZeros(captures);
+            captures &= captures - 1;
+            addPawnMove(from, to, Move.FLAG_CAPTURE, lastRow, moves);
+        }
+    }
+
+    // Adiciona o lance do peão; ao chegar na última linha gera as quatro promoções (dama primeiro)
+    private static void addPawnMove(int from, int to, int flags, int lastRow, MoveList moves) {
+        if (Bitboards.row(to) == lastRow) {
+            moves.add(Move.encode(from, to, Piece.QUEEN, flags));
+            moves.add(Move.encode(from, to, Piece.ROOK, flags));
+            moves.add(Move.encode(from, to, Piece.BISHOP, flags));
+            moves.add(Move.encode(from, to, Piece.KNIGHT, flags));
+        } else {
+            moves.add(Move.encode(from, to, 0, flags));
+        }
+    }
+
+    // Roque para as colunas g e c, se o direito ainda existir, a torre estiver no canto e o caminho livre
+    // (as casas atacadas são verificadas depois)
+    private static void generateCastling(Board board, int from, boolean isWhite, int castlingRights, MoveList moves) {
+        if (from != (isWhite ? ChessModel.WHITE_KING_SQUARE : ChessModel.BLACK_KING_SQUARE)) return;
+
+        int kingside = isWhite ? ChessModel.CASTLE_WHITE_KINGSIDE : ChessModel.CASTLE_BLACK_KINGSIDE;
+        int queenside = isWhite ? ChessModel.CASTLE_WHITE_QUEENSIDE : ChessModel.CASTLE_BLACK_QUEENSIDE;
+        int rook = BitboardSet.index(Piece.ROOK, isWhite);
+        long occupied = board.occupancy();
+
+        if ((castlingRights & kingside) != 0 && board.pieceIndexAt(from + 3) == rook
+                && (Bitboards.BETWEEN[from][from + 3] & occupied) == 0) {
+            moves.add(Move.encode(from, from + 2, 0, Move.FLAG_CASTLING));
+        }
+        if ((castlingRights & queenside) != 0 && board.pieceIndexAt(from - 4) == rook
+                && (Bitboards.BETWEEN[from][from - 4] & occupied) == 0) {
+            moves.add(Move.encode(from, from - 2, 0, Move.FLAG_CASTLING));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package model;
+
+/**
+ * Lista reutilizável de movimentos codificados (ver Move), apoiada em um vetor de int.
+ * O vetor é alocado uma única vez; clear() apenas zera o tamanho para reaproveitá-lo,
+ * de forma que gerar e listar movimentos não cria objetos.
+ */
+public class MoveList {
+    // Limite seguro: nenhuma posição legal de xadrez tem mais de 218 lances
+    public static final int CAPACITY = 256;
+
+    private final int[] moves = new int[CAPACITY];
+    private int size;
+
+    // Esvazia a lista sem liberar o vetor
+    public void clear() {
+        size = 0;
+    }
+
+    // Acrescenta um movimento ao final da lista
+    public void add(int move) {
+        moves[size++] = move;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int get(int index) {
+        return moves[index];
+    }
+
+    // Substitui o movimento na posição indicada
+    public void set(int index, int move) {
+        moves[index] = move;
+    }
+
+    // Remove o movimento na posição indicada trocando-o pelo último (a ordem não é preservada)
+    public void removeAt(int index) {
+        moves[index] = moves[--size];
+    }
+
+    // Procura um movimento pela origem e destino (a primeira promoção encontrada, se houver várias).
+    // Retorna Move.NONE se não existir.
+    public int find(int from, int to) {
+        for (int i = 0; i < size; i++) {
+            int move = moves[i];
+            if (Move.from(move) == from && Move.to(move) == to) {
+                return move;
+            }
+        }
+        return Move.NONE;
+    }
+}
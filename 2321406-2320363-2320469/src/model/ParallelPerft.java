@@ -0,0 +1,163 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Perft paralelo sobre um ForkJoinPool.
+ * Os lances da raiz (e, em profundidades maiores, também os do segundo nível) viram tarefas
+ * independentes; cada tarefa trabalha sobre a sua própria cópia do modelo (ChessModel.copy).
+ * Todas as threads compartilham uma tabela de contagens sem travas (PerftHash), indexada pela
+ * chave de Zobrist da posição e pela profundidade. O resultado é idêntico ao do perft serial.
+ *
+ * Uso: java model.ParallelPerft <profundidade> [FEN] [threads...]
+ */
+public class ParallelPerft {
+
+    // Profundidade restante a partir da qual o segundo nível também é dividido em tarefas
+    private static final int SPLIT_SECOND_PLY_DEPTH = 4;
+
+    private static final int DEFAULT_HASH_MB = 64;
+
+    private final ForkJoinPool pool;
+    private final PerftHash table;
+
+    // Cria o contador com o número de threads e o tamanho da tabela compartilhada (em megabytes)
+    public ParallelPerft(int threads, int hashMegabytes) {
+        this.pool = new ForkJoinPool(threads);
+        this.table = new PerftHash(hashMegabytes);
+    }
+
+    public ParallelPerft(int threads) {
+        this(threads, DEFAULT_HASH_MB);
+    }
+
+    // Conta as folhas da árvore de lances legais a partir da posição do modelo (que não é alterada)
+    public long perft(ChessModel model, int depth) {
+        long nodes = 0;
+        for (long count : divide(model, depth).values()) {
+            nodes += count;
+        }
+        return depth == 0 ? 1 : nodes;
+    }
+
+    // Conta as folhas de cada lance da raiz, na ordem gerada (como Perft.divide)
+    public Map<String, Long> divide(ChessModel model, int depth) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        if (depth < 1) return result;
+
+        MoveList moves = new MoveList();
+        model.generateLegalMoves(moves);
+
+        List<PerftTask> tasks = new ArrayList<>();
+        for (int i = 0; i < moves.size(); i++) {
+            tasks.add(new PerftTask(model, moves.get(i), depth - 1, true));
+        }
+        for (PerftTask task : tasks) {
+            pool.execute(task);
+        }
+        for (int i = 0; i < tasks.size(); i++) {
+            result.put(Move.toString(moves.get(i)), tasks.get(i).join());
+        }
+        return result;
+    }
+
+    // Encerra as threads do pool
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    // Tarefa que faz um lance sobre uma cópia da posição e conta a subárvore resultante
+    private final class PerftTask extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final ChessModel parent;
+        private final int move;
+        private final int depth;
+        private final boolean root;
+
+        PerftTask(ChessModel parent, int move, int depth, boolean root) {
+            this.parent = parent;
+            this.move = move;
+            this.depth = depth;
+            this.root = root;
+        }
+
+        @Override
+        protected Long compute() {
+            ChessModel position = parent.copy();
+            position.makeMove(move);
+
+            if (!root || depth < SPLIT_SECOND_PLY_DEPTH) {
+                return new Perft(position, table).perft(depth);
+            }
+
+            // Divide também o segundo nível, para manter todas as threads ocupadas
+            MoveList moves = new MoveList();
+            position.generateLegalMoves(moves);
+            List<PerftTask> children = new ArrayList<>();
+            for (int i = 0; i < moves.size(); i++) {
+                PerftTask child = new PerftTask(position, moves.get(i), depth - 1, false);
+                child.fork();
+                children.add(child);
+            }
+            long nodes = 0;
+            for (PerftTask child : children) {
+                nodes += child.join();
+            }
+            return nodes;
+        }
+    }
+
+    /**
+     * Mede o perft com 1, 2, 4, ... threads até o número de processadores (ou com as quantidades
+     * informadas) e mostra o tempo, os nós por segundo e o ganho em relação a uma thread.
+     */
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.out.println("Uso: java model.ParallelPerft <profundidade> [FEN] [threads...]");
+            return;
+        }
+
+        int depth = Integer.parseInt(args[0]);
+        String fen = Perft.START_FEN;
+        List<Integer> threadCounts = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            if (args[i].matches("\\d+")) {
+                threadCounts.add(Integer.parseInt(args[i]));
+            } else {
+                fen = args[i];
+            }
+        }
+        if (threadCounts.isEmpty()) {
+            for (int t = 1; t <= Runtime.getRuntime().availableProcessors(); t *= 2) {
+                threadCounts.add(t);
+            }
+        }
+
+        ChessModel model = new ChessModel();
+        model.loadFEN(fen);
+
+        long serialNodes = new Perft(model).perft(depth);
+        System.out.println("Perft serial: " + serialNodes + " nós");
+
+        long baseline = 0;
+        for (int threads : threadCounts) {
+            // Cada medida usa uma tabela nova, para que uma não aproveite as contagens da outra
+            ParallelPerft perft = new ParallelPerft(threads);
+            long start = System.nanoTime();
+            long nodes = perft.perft(model, depth);
+            long elapsed = System.nanoTime() - start;
+            perft.shutdown();
+
+            if (baseline == 0) baseline = elapsed;
+            System.out.printf("%2d threads: %d nós %s  %d ms, %d nós/s, ganho %.2fx%n",
+                threads, nodes, nodes == serialNodes ? "OK" : "ERRO", elapsed / 1_000_000,
+                Perft.nodesPerSecond(nodes, elapsed), (double) baseline / elapsed);
+        }
+    }
+}
@@ -7,35 +7,50 @@ class Pawn extends Piece {
         super(isWhite);
     }
 
-    // Recebe: posição inicial, posição final e o tabuleiro
-    // Retorna: true se o movimento do peão for válido (avanço normal, captura, ou en passant)
+    // Recebe: posição inicial, posição final e o tabuleiro (sem casa de en passant)
+    // Retorna: true se o movimento do peão for válido (avanço normal ou captura)
     @Override
     public boolean isValidMove(Position from, Position to, Board board) {
-        int direction = isWhite ? -1 : 1;
+        return isValidMove(from, to, board, null);
+    }
+
+    // Recebe: posição inicial, posição final, o tabuleiro e a casa alvo de en passant da partida (ou null)
+    // Retorna: true se o movimento do peão for válido (avanço normal, captura, ou en passant)
+    @Override
+    public boolean isValidMove(Position from, Position to, Board board, Position enPassantTarget) {
+        int origin = from.toSquare();
+        int target = to.toSquare();
+        int step = isWhite ? -8 : 8;   // uma linha para frente, em índices de casa
         int startRow = isWhite ? 6 : 1;
+        long occupied = board.occupancy();
 
         // Movimento para frente (1 casa)
-        if (from.col == to.col) {
-            if (to.row == from.row + direction && board.isEmpty(to.row, to.col)) return true;
-
-            // Avanço duplo inicial
-            if (from.row == startRow && to.row == from.row + 2 * direction &&
-                board.isEmpty(to.row, to.col) && board.isEmpty(from.row + direction, to.col)) {
-                return true;
-            }
+        if (target == origin + step && (occupied & Bitboards.bit(target)) == 0) return true;
+
+        // Avanço duplo inicial
+        if (from.row == startRow && target == origin + 2 * step &&
+            (occupied & (Bitboards.bit(target) | Bitboards.bit(origin + step))) == 0) {
+            return true;
         }
 
         // Captura normal na diagonal
-        if (Math.abs(from.col - to.col) == 1 && to.row == from.row + direction) {
-            Piece target = board.getPiece(to.row, to.col);
-            if (target != null && target.isWhite() != isWhite) return true;
+        if ((attacks(origin, occupied) & Bitboards.bit(target)) != 0) {
+            if ((board.occupancy(!isWhite) & Bitboards.bit(target)) != 0) return true;
 
             // En passant: captura de peão adversário recém-avançado
-            Position enPassant = ChessModel.getInstance().getEnPassantTarget();
-            if (enPassant != null && to.equals(enPassant)) return true;
+            if (enPassantTarget != null && to.equals(enPassantTarget)) return true;
         }
 
         return false;
     }
 
+    @Override
+    long attacks(int square, long occupied) {
+        return Bitboards.PAWN_ATTACKS[isWhite ? BitboardSet.WHITE : BitboardSet.BLACK][square];
+    }
+
+    @Override
+    public int getType() {
+        return PAWN;
+    }
 }
@@ -0,0 +1,95 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * Tabela de peões: guarda, para cada estrutura de peões já vista, a avaliação dos termos de
+ * peões (PawnStructure) e o bitboard dos peões passados. A chave é a parte de Zobrist só dos
+ * peões (Board.pawnKey), mantida a cada lance; como a estrutura de peões muda pouco durante a
+ * busca, quase todas as consultas acertam.
+ * Cada thread de busca usa a sua própria tabela (não é compartilhada).
+ */
+public final class PawnHashTable {
+
+    public static final int DEFAULT_SIZE_BITS = 14; // 16384 entradas
+
+    private final long[] keys;
+    private final boolean[] used;
+    private final int[] scores;   // meio-jogo e final empacotados (PawnStructure.pack)
+    private final long[] passed;
+    private final int mask;
+
+    private long probes;
+    private long hits;
+
+    public PawnHashTable() {
+        this(DEFAULT_SIZE_BITS);
+    }
+
+    // Cria a tabela com 2^sizeBits entradas
+    public PawnHashTable(int sizeBits) {
+        int size = 1 << sizeBits;
+        keys = new long[size];
+        used = new boolean[size];
+        scores = new int[size];
+        passed = new long[size];
+        mask = size - 1;
+    }
+
+    // Retorna a entrada da estrutura de peões do tabuleiro, calculando e guardando se necessário
+    int lookup(Board board) {
+        long key = board.pawnKey();
+        int slot = (int) key & mask;
+        probes++;
+        if (used[slot] && keys[slot] == key) {
+            hits++;
+            return slot;
+        }
+        long whitePawns = board.pieces(Piece.PAWN, true);
+        long blackPawns = board.pieces(Piece.PAWN, false);
+        keys[slot] = key;
+        used[slot] = true;
+        scores[slot] = PawnStructure.evaluate(whitePawns, blackPawns);
+        passed[slot] = PawnStructure.passedPawns(whitePawns, blackPawns);
+        return slot;
+    }
+
+    // Termos de peões empacotados (brancas menos pretas) da entrada
+    int score(int slot) {
+        return scores[slot];
+    }
+
+    // Bitboard dos peões passados (das duas cores) da entrada
+    long passedPawns(int slot) {
+        return passed[slot];
+    }
+
+    public void clear() {
+        Arrays.fill(used, false);
+        resetStats();
+    }
+
+    // Zera as estatísticas sem apagar as entradas (chamado no início de cada busca)
+    public void resetStats() {
+        probes = 0;
+        hits = 0;
+    }
+
+    public long getProbes() {
+        return probes;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    // Fração de consultas que encontraram a estrutura na tabela, em milésimos
+    public int hitRatePermille() {
+        return probes == 0 ? 0 : (int) (hits * 1000 / probes);
+    }
+
+    // Resumo das estatísticas, para os relatórios de benchmark
+    public String stats() {
+        return "peões " + keys.length + " entradas, acertos " + hitRatePermille() + "‰ de " + probes + " consultas";
+    }
+}
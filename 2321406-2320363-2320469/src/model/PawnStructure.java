@@ -0,0 +1,152 @@
+package model;
+
+// Avaliação da estrutura de peões: peões dobrados, isolados, atrasados e passados (e se estão
+// bloqueados), e o escudo de peões na frente do rei. Os termos são devolvidos empacotados num int (meio-jogo nos 16 bits
+// altos, final nos 16 baixos; ver pack/mg/eg), sempre do ponto de vista das brancas.
+// Só o escudo e o bloqueio dependem de outras peças além dos peões; o resto depende apenas dos dois
+// bitboards de peões e por isso pode ser guardado na tabela de peões (PawnHashTable).
+final class PawnStructure {
+
+    // Penalidades e bônus (meio-jogo, final)
+    private static final int DOUBLED = pack(-10, -20);   // por peão a mais na coluna
+    private static final int ISOLATED = pack(-10, -15);  // sem peões amigos nas colunas vizinhas
+    private static final int BACKWARD = pack(-8, -10);   // sem apoio e com a casa da frente atacada
+    // Peão passado por linha relativa (0 = primeira linha do próprio lado, 7 = promoção)
+    private static final int[] PASSED = {
+        0, pack(5, 10), pack(10, 20), pack(15, 35), pack(25, 60), pack(40, 100), pack(60, 150), 0
+    };
+    private static final int SHIELD_PAWN = pack(10, 0);  // por peão na frente do rei (até 3)
+    private static final int BLOCKED_PASSED = pack(-5, -20); // peão passado com a casa da frente ocupada
+
+    static final long[] FILES = new long[8];
+    static final long[] ADJACENT_FILES = new long[8];
+
+    // Casas à frente do peão na própria coluna e nas vizinhas: [cor][casa]. Sem peões adversários
+    // nessas casas, o peão é passado
+    static final long[][] PASSED_MASK = new long[2][64];
+    // Casas das colunas vizinhas na mesma linha ou atrás do peão (de onde um peão amigo o apoiaria)
+    private static final long[][] SUPPORT_MASK = new long[2][64];
+    // Casas uma e duas linhas à frente do rei, na coluna dele e nas vizinhas
+    private static final long[][] SHIELD_MASK = new long[2][64];
+
+    static {
+        for (int col = 0; col < 8; col++) {
+            for (int row = 0; row < 8; row++) {
+                FILES[col] |= Bitboards.bit(Bitboards.square(row, col));
+            }
+        }
+        for (int col = 0; col < 8; col++) {
+            ADJACENT_FILES[col] = (col > 0 ? FILES[col - 1] : 0) | (col < 7 ? FILES[col + 1] : 0);
+        }
+        for (int sq = 0; sq < 64; sq++) {
+            int row = Bitboards.row(sq);
+            int col = Bitboards.col(sq);
+            long span = FILES[col] | ADJACENT_FILES[col];
+            for (int r = 0; r < 8; r++) {
+                long rank = 0xFFL << (r * 8);
+                // As brancas avançam para a linha 0, as pretas para a linha 7
+                if (r < row) PASSED_MASK[BitboardSet.WHITE][sq] |= span & rank;
+                if (r > row) PASSED_MASK[BitboardSet.BLACK][sq] |= span & rank;
+                if (r >= row) SUPPORT_MASK[BitboardSet.WHITE][sq] |= ADJACENT_FILES[col] & rank;
+                if (r <= row) SUPPORT_MASK[BitboardSet.BLACK][sq] |= ADJACENT_FILES[col] & rank;
+                if (r == row - 1 || r == row - 2) SHIELD_MASK[BitboardSet.WHITE][sq] |= span & rank;
+                if (r == row + 1 || r == row + 2) SHIELD_MASK[BitboardSet.BLACK][sq] |= span & rank;
+            }
+        }
+    }
+
+    private PawnStructure() {}
+
+    // Termos que dependem só dos peões (brancas menos pretas), empacotados
+    static int evaluate(long whitePawns, long blackPawns) {
+        return evaluateSide(whitePawns, blackPawns, BitboardSet.WHITE)
+             - evaluateSide(blackPawns, whitePawns, BitboardSet.BLACK);
+    }
+
+    private static int evaluateSide(long ours, long theirs, int color) {
+        int score = 0;
+        for (int col = 0; col < 8; col++) {
+            int count = Long.bitCount(ours & FILES[col]);
+            if (count > 1) score += (count - 1) * DOUBLED;
+        }
+
+        long pawns = ours;
+        while (pawns != 0) {
+            int sq = Long.numberOfTrailingZeros(pawns);
+            pawns &= pawns - 1;
+            int col = Bitboards.col(sq);
+
+            if ((PASSED_MASK[color][sq] & theirs) == 0) {
+                score += PASSED[relativeRank(sq, color)];
+            } else if ((ours & ADJACENT_FILES[col]) == 0) {
+                score += ISOLATED;
+            } else if ((SUPPORT_MASK[color][sq] & ours) == 0) {
+                int stop = color == BitboardSet.WHITE ? sq - 8 : sq + 8;
+                if ((Bitboards.PAWN_ATTACKS[color][stop] & theirs) != 0) {
+                    score += BACKWARD;
+                }
+            }
+        }
+        return score;
+    }
+
+    // Bitboard com todos os peões passados das duas cores
+    static long passedPawns(long whitePawns, long blackPawns) {
+        return passedOf(whitePawns, blackPawns, BitboardSet.WHITE) | passedOf(blackPawns, whitePawns, BitboardSet.BLACK);
+    }
+
+    private static long passedOf(long ours, long theirs, int color) {
+        long passed = 0;
+        long pawns = ours;
+        while (pawns != 0) {
+            int sq = Long.numberOfTrailingZeros(pawns);
+            pawns &= pawns - 1;
+            if ((PASSED_MASK[color][sq] & theirs) == 0) passed |= Bitboards.bit(sq);
+        }
+        return passed;
+    }
+
+    // Penalidade dos peões passados bloqueados (brancas menos pretas), empacotada; os passados vêm da
+    // tabela de peões, só a ocupação da casa da frente depende das outras peças
+    static int blockedPassed(Board board, long passed) {
+        long occupied = board.occupancy();
+        long white = passed & board.pieces(Piece.PAWN, true);
+        long black = passed & board.pieces(Piece.PAWN, false);
+        // Casa da frente: linha anterior para as brancas, seguinte para as pretas
+        int blocked = Long.bitCount((white >>> 8) & occupied) - Long.bitCount((black << 8) & occupied);
+        return blocked * BLOCKED_PASSED;
+    }
+
+    // Escudo de peões dos dois reis (brancas menos pretas), empacotado; só conta com o rei nas duas
+    // primeiras linhas do próprio lado
+    static int shield(Board board) {
+        return shieldOf(board, true) - shieldOf(board, false);
+    }
+
+    private static int shieldOf(Board board, boolean isWhite) {
+        int king = board.kingSquare(isWhite);
+        int color = isWhite ? BitboardSet.WHITE : BitboardSet.BLACK;
+        if (king < 0 || relativeRank(king, color) > 1) return 0;
+        int pawns = Long.bitCount(SHIELD_MASK[color][king] & board.pieces(Piece.PAWN, isWhite));
+        return Math.min(pawns, 3) * SHIELD_PAWN;
+    }
+
+    // Linha do ponto de vista da cor: 0 = primeira linha do próprio lado, 7 = última
+    static int relativeRank(int square, int color) {
+        int row = Bitboards.row(square);
+        return color == BitboardSet.WHITE ? 7 - row : row;
+    }
+
+    // Empacota meio-jogo e final num int (somas e subtrações continuam valendo para os dois)
+    static int pack(int mg, int eg) {
+        return (mg << 16) + eg;
+    }
+
+    static int mg(int packed) {
+        return (packed + 0x8000) >> 16;
+    }
+
+    static int eg(int packed) {
+        return (short) packed;
+    }
+}
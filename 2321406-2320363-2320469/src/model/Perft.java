@@ -0,0 +1,194 @@
+package model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Contador de nós (perft) do gerador de movimentos legais.
+ * Percorre a árvore de lances até a profundidade pedida, fazendo e desfazendo cada lance,
+ * e conta as folhas. Os totais das posições de referência são conhecidos, por isso servem
+ * para validar o gerador; o tempo gasto mede a sua velocidade (nós por segundo).
+ *
+ * Uso: java model.Perft <profundidade> [FEN] [divide]
+ *      java model.Perft suite <profundidade>
+ */
+public class Perft {
+
+    public static final String START_FEN = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+    /**
+     * Posições de referência e seus totais conhecidos (índice = profundidade - 1).
+     * Posição inicial, "Kiwipete" e as posições 3 a 6 da lista clássica de perft,
+     * que exercitam roques, en passant com cravada horizontal, promoções e cheques.
+     */
+    public static final String[] SUITE_NAMES = {
+        "Posição inicial", "Kiwipete", "Posição 3", "Posição 4", "Posição 5", "Posição 6"
+    };
+    public static final String[] SUITE_FENS = {
+        START_FEN,
+        "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+        "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+        "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+        "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8",
+        "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10"
+    };
+    public static final long[][] SUITE_NODES = {
+        {20, 400, 8902, 197281, 4865609},
+        {48, 2039, 97862, 4085603},
+        {14, 191, 2812, 43238, 674624},
+        {6, 264, 9467, 422333},
+        {44, 1486, 62379, 2103487},
+        {46, 2079, 89890, 3894594}
+    };
+
+    private final ChessModel model;
+    private final PerftHash table; // contagens já feitas (null = sem tabela)
+
+    // Uma lista de lances por nível da árvore, reaproveitada durante toda a contagem
+    private MoveList[] lists = new MoveList[0];
+
+    public Perft(ChessModel model) {
+        this(model, null);
+    }
+
+    // Contador que reaproveita as subárvores já contadas, guardadas na tabela (pode ser compartilhada)
+    Perft(ChessModel model, PerftHash table) {
+        this.model = model;
+        this.table = table;
+    }
+
+    // Conta as folhas da árvore de lances legais a partir da posição atual do modelo
+    public long perft(int depth) {
+        ensureLists(depth);
+        return count(depth);
+    }
+
+    /**
+     * Conta as folhas separadamente para cada lance da raiz ("divide"), na ordem gerada.
+     * A chave é o lance em notação de coordenadas (ex.: "e2e4", "e7e8q").
+     */
+    public Map<String, Long> divide(int depth) {
+        ensureLists(depth);
+        Map<String, Long> result = new LinkedHashMap<>();
+        if (depth < 1) return result;
+
+        MoveList moves = lists[depth];
+        model.generateLegalMoves(moves);
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+            model.makeMove(move);
+            result.put(Move.toString(move), count(depth - 1));
+            model.unmakeMove();
+        }
+        return result;
+    }
+
+    private long count(int depth) {
+        if (depth == 0) return 1;
+
+        long key = 0;
+        if (table != null && depth > 1) {
+            key = model.getHash();
+            long stored = table.probe(key, depth);
+            if (stored >= 0) return stored;
+        }
+
+        MoveList moves = lists[depth];
+        model.generateLegalMoves(moves);
+
+        // No último nível basta o número de lances legais, sem fazê-los
+        if (depth == 1) return moves.size();
+
+        long nodes = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            model.makeMove(moves.get(i));
+            nodes += count(depth - 1);
+            model.unmakeMove();
+        }
+
+        if (table != null) {
+            table.store(key, depth, nodes);
+        }
+        return nodes;
+    }
+
+    private void ensureLists(int depth) {
+        if (lists.length > depth) return;
+        lists = new MoveList[depth + 1];
+        for (int i = 0; i <= depth; i++) {
+            lists[i] = new MoveList();
+        }
+    }
+
+    // Nós por segundo a partir do número de nós e do tempo em nanossegundos
+    public static long nodesPerSecond(long nodes, long nanos) {
+        return nanos <= 0 ? 0 : nodes * 1_000_000_000L / nanos;
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.out.println("Uso: java model.Perft <profundidade> [FEN] [divide]");
+            System.out.println("     java model.Perft suite <profundidade>");
+            return;
+        }
+
+        ChessModel model = new ChessModel();
+        Perft perft = new Perft(model);
+
+        if (args[0].equals("suite")) {
+            int maxDepth = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+            runSuite(perft, model, maxDepth);
+            return;
+        }
+
+        int depth = Integer.parseInt(args[0]);
+        String fen = START_FEN;
+        boolean divide = false;
+        for (int i = 1; i < args.length; i++) {
+            if (args[i].equals("divide")) {
+                divide = true;
+            } else {
+                fen = args[i];
+            }
+        }
+        model.loadFEN(fen);
+
+        long start = System.nanoTime();
+        long nodes;
+        if (divide) {
+            nodes = 0;
+            for (Map.Entry<String, Long> entry : perft.divide(depth).entrySet()) {
+                System.out.println(entry.getKey() + ": " + entry.getValue());
+                nodes += entry.getValue();
+            }
+        } else {
+            nodes = perft.perft(depth);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        System.out.println("Nós: " + nodes);
+        System.out.println("Tempo: " + elapsed / 1_000_000 + " ms");
+        System.out.println("Nós por segundo: " + nodesPerSecond(nodes, elapsed));
+    }
+
+    // Roda as posições de referência até a profundidade pedida e compara com os totais conhecidos
+    private static void runSuite(Perft perft, ChessModel model, int maxDepth) {
+        boolean allOk = true;
+        for (int p = 0; p < SUITE_FENS.length; p++) {
+            model.loadFEN(SUITE_FENS[p]);
+            int depth = Math.min(maxDepth, SUITE_NODES[p].length);
+
+            long start = System.nanoTime();
+            long nodes = perft.perft(depth);
+            long elapsed = System.nanoTime() - start;
+
+            long expected = SUITE_NODES[p][depth - 1];
+            boolean ok = nodes == expected;
+            allOk &= ok;
+            System.out.printf("%-16s profundidade %d: %d nós (esperado %d) %s  %d ms, %d nós/s%n",
+                SUITE_NAMES[p], depth, nodes, expected, ok ? "OK" : "ERRO",
+                elapsed / 1_000_000, nodesPerSecond(nodes, elapsed));
+        }
+        System.out.println(allOk ? "Todas as posições conferem." : "Há posições com contagem diferente!");
+    }
+}
@@ -0,0 +1,40 @@
+package model;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Tabela de transposição do perft, compartilhada entre as threads sem travas.
+// Cada entrada ocupa dois longs: (chave XOR dados) e dados, onde dados = contagem << 8 | profundidade.
+// Uma entrada só é aceita se o XOR dos dois longs devolver a chave procurada, de forma que uma
+// escrita pela metade feita por outra thread é simplesmente descartada como ausente.
+final class PerftHash {
+
+    private final AtomicLongArray table;
+    private final int mask;
+
+    // Cria a tabela com o tamanho indicado em megabytes (arredondado para baixo para potência de dois)
+    PerftHash(int megabytes) {
+        long entries = Math.max(1L, (long) megabytes * 1024 * 1024 / 16);
+        int size = Integer.highestOneBit((int) Math.min(entries, 1 << 28));
+        table = new AtomicLongArray(size * 2);
+        mask = size - 1;
+    }
+
+    // Retorna a contagem guardada para a chave e profundidade, ou -1 se não houver
+    long probe(long key, int depth) {
+        int index = ((int) key & mask) << 1;
+        long stored = table.getOpaque(index);
+        long data = table.getOpaque(index + 1);
+        if ((stored ^ data) != key || (int) (data & 0xFF) != depth) {
+            return -1;
+        }
+        return data >>> 8;
+    }
+
+    // Guarda a contagem da posição (sempre substitui a entrada anterior)
+    void store(long key, int depth, long nodes) {
+        int index = ((int) key & mask) << 1;
+        long data = (nodes << 8) | depth;
+        table.setOpaque(index, key ^ data);
+        table.setOpaque(index + 1, data);
+    }
+}
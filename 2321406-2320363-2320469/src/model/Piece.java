@@ -1,6 +1,14 @@
 package model;
 
 abstract class Piece {
+    // Tipos de peça, usados como índice nos bitboards (ver BitboardSet); definidos em PieceType
+    static final int PAWN = PieceType.PAWN;
+    static final int KNIGHT = PieceType.KNIGHT;
+    static final int BISHOP = PieceType.BISHOP;
+    static final int ROOK = PieceType.ROOK;
+    static final int QUEEN = PieceType.QUEEN;
+    static final int KING = PieceType.KING;
+
     protected boolean isWhite;
 
     // Indica se a peça já foi movida alguma vez no jogo (importante para roque e en passant)
@@ -19,6 +27,42 @@ abstract class Piece {
     // Recebe: posição inicial, posição final e o tabuleiro
     // Retorna: true se o movimento for válido segundo as regras da peça
     public abstract boolean isValidMove(Position from, Position to, Board board);
+
+    // Igual ao anterior, recebendo também o contexto da posição que não está no tabuleiro:
+    // a casa alvo de en passant (ou null). Só o peão usa essa informação.
+    public boolean isValidMove(Position from, Position to, Board board, Position enPassantTarget) {
+        return isValidMove(from, to, board);
+    }
+
+    // Cria uma peça nova a partir do tipo (PAWN, KNIGHT, ...) e da cor
+    static Piece create(int type, boolean isWhite) {
+        switch (type) {
+            case PAWN:   return new Pawn(isWhite);
+            case KNIGHT: return new Knight(isWhite);
+            case BISHOP: return new Bishop(isWhite);
+            case ROOK:   return new Rook(isWhite);
+            case QUEEN:  return new Queen(isWhite);
+            case KING:   return new King(isWhite);
+            default: throw new IllegalArgumentException("Tipo de peça inválido: " + type);
+        }
+    }
+
+    // Retorna o tipo da peça (PAWN, KNIGHT, BISHOP, ROOK, QUEEN ou KING)
+    public abstract int getType();
+
+    // Recebe: casa de origem (0 a 63) e a ocupação do tabuleiro
+    // Retorna: bitboard com todas as casas atacadas pela peça (inclui casas de peças aliadas, que ficam defendidas)
+    abstract long attacks(int square, long occupied);
+
+    // Retorna, de uma só vez, o conjunto de casas atacadas pela peça na posição indicada
+    public long getAttacks(Position from, Board board) {
+        return attacks(from.toSquare(), board.occupancy());
+    }
+
+    // Retorna true se a casa estiver vazia ou ocupada por peça adversária
+    protected boolean isFreeOrEnemy(int square, Board board) {
+        return (board.occupancy(isWhite) & Bitboards.bit(square)) == 0;
+    }
     
     // Retorna true se a peça já se moveu (usado no roque)
     public boolean hasMoved() {
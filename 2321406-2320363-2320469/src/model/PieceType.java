@@ -0,0 +1,25 @@
+package model;
+
+/**
+ * Tipos de peça e seus valores materiais, para uso fora do pacote model (ex.: a busca do engine).
+ * São os mesmos tipos devolvidos por ChessModel.getPieceType e guardados na promoção de um lance
+ * (Move.promotion); Piece e o resto do modelo usam estas mesmas constantes.
+ */
+public final class PieceType {
+    public static final int PAWN = 0;
+    public static final int KNIGHT = 1;
+    public static final int BISHOP = 2;
+    public static final int ROOK = 3;
+    public static final int QUEEN = 4;
+    public static final int KING = 5;
+
+    // Valor material de cada tipo em centésimos de peão (o rei não entra na contagem)
+    private static final int[] MATERIAL_VALUE = {100, 320, 330, 500, 900, 0};
+
+    private PieceType() {}
+
+    // Retorna o valor material do tipo de peça (0 para o rei)
+    public static int value(int type) {
+        return MATERIAL_VALUE[type];
+    }
+}
@@ -3,6 +3,15 @@ package model;
 // Representa uma posição no tabuleiro de xadrez (linha e coluna de 0 a 7)
 class Position {
 
+    // Posições pré-alocadas para cada casa, indexadas por (linha * 8 + coluna)
+    private static final Position[] SQUARES = new Position[64];
+
+    static {
+        for (int square = 0; square < 64; square++) {
+            SQUARES[square] = new Position(square >>> 3, square & 7);
+        }
+    }
+
     public final int row;
     public final int col;
 
@@ -16,6 +25,16 @@ class Position {
         this.col = col;
     }
 
+    // Retorna a posição correspondente ao índice da casa (0 a 63), sem criar novos objetos
+    public static Position of(int square) {
+        return SQUARES[square];
+    }
+
+    // Retorna o índice da casa (linha * 8 + coluna), usado nos bitboards
+    public int toSquare() {
+        return row * 8 + col;
+    }
+
     // Compara se duas posições são iguais (mesma linha e mesma coluna)
     @Override
     public boolean equals(Object obj) {
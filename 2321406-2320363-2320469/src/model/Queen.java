@@ -11,32 +11,24 @@ class Queen extends Piece {
     // Retorna: true se o movimento for válido (reto ou diagonal, com caminho livre e destino desocupado ou com peça adversária)
     @Override
     public boolean isValidMove(Position from, Position to, Board board) {
-        int rowDiff = Math.abs(from.row - to.row);
-        int colDiff = Math.abs(from.col - to.col);
+        int target = to.toSquare();
 
-        int rowStep = Integer.compare(to.row, from.row);
-        int colStep = Integer.compare(to.col, from.col);
-
-        // Verifica se o movimento é reto (horizontal/vertical) ou diagonal
-        if (rowDiff == colDiff || rowDiff == 0 || colDiff == 0) {
-
-            // Verifica se há peças no caminho até o destino
-            int currentRow = from.row + rowStep;
-            int currentCol = from.col + colStep;
+        // O destino deve estar no conjunto de ataques da dama (reto ou diagonal, parando na primeira peça)
+        if ((attacks(from.toSquare(), board.occupancy()) & Bitboards.bit(target)) == 0) {
+            return false;
+        }
 
-            while (currentRow != to.row || currentCol != to.col) {
-                if (!board.isEmpty(currentRow, currentCol)) {
-                    return false;
-                }
-                currentRow += rowStep;
-                currentCol += colStep;
-            }
+        // Verifica se o destino está vazio ou contém peça adversária
+        return isFreeOrEnemy(target, board);
+    }
 
-            // Verifica se o destino está vazio ou contém peça adversária
-            Piece destinationPiece = board.getPiece(to.row, to.col);
-            return destinationPiece == null || destinationPiece.isWhite() != this.isWhite;
-        }
+    @Override
+    long attacks(int square, long occupied) {
+        return Magics.queenAttacks(square, occupied);
+    }
 
-        return false;
+    @Override
+    public int getType() {
+        return QUEEN;
     }
 }
@@ -11,28 +11,24 @@ class Rook extends Piece {
     // Retorna: true se o movimento for válido (reto, sem obstáculos e sem capturar peça aliada)
     @Override
     public boolean isValidMove(Position from, Position to, Board board) {
-        // Movimento deve ser estritamente horizontal ou vertical
-        if (from.row != to.row && from.col != to.col) {
+        int target = to.toSquare();
+
+        // O destino deve estar no conjunto de ataques da torre (reto, parando na primeira peça)
+        if ((attacks(from.toSquare(), board.occupancy()) & Bitboards.bit(target)) == 0) {
             return false;
         }
 
-        int rowStep = Integer.compare(to.row, from.row);
-        int colStep = Integer.compare(to.col, from.col);
-
-        // Verifica se há peças no caminho até o destino
-        int currentRow = from.row + rowStep;
-        int currentCol = from.col + colStep;
+        // Verifica se o destino está vazio ou contém peça adversária
+        return isFreeOrEnemy(target, board);
+    }
 
-        while (currentRow != to.row || currentCol != to.col) {
-            if (!board.isEmpty(currentRow, currentCol)) {
-                return false;
-            }
-            currentRow += rowStep;
-            currentCol += colStep;
-        }
+    @Override
+    long attacks(int square, long occupied) {
+        return Magics.rookAttacks(square, occupied);
+    }
 
-        // Verifica se o destino está vazio ou contém peça adversária
-        Piece destinationPiece = board.getPiece(to.row, to.col);
-        return destinationPiece == null || destinationPiece.isWhite() != this.isWhite;
+    @Override
+    public int getType() {
+        return ROOK;
     }
 }
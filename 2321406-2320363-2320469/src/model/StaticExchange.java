@@ -0,0 +1,106 @@
+package model;
+
+/**
+ * Avaliação estática de trocas (SEE): calcula o saldo material de um lance de captura
+ * resolvendo, sem fazer os lances, a sequência de recapturas naquela casa.
+ * Em cada passo o lado da vez recaptura com a sua peça menos valiosa; cada lado pode parar de
+ * recapturar quando isso for pior. Peças deslizantes que estavam atrás de outra (raio X)
+ * entram na troca quando a peça da frente sai, porque os ataques são recalculados com a
+ * ocupação atual. Cravações e xeques são ignorados.
+ *
+ * Exemplo: StaticExchange.evaluate(model, lance) == 0 para cavalo captura cavalo defendido.
+ */
+public final class StaticExchange {
+
+    // Valores usados na troca: os materiais de PieceType, e o rei vale mais que tudo (só captura por último)
+    private static final int KING_VALUE = 20000;
+    private static final int[] VALUE = new int[6];
+
+    static {
+        for (int type = Piece.PAWN; type < Piece.KING; type++) {
+            VALUE[type] = PieceType.value(type);
+        }
+        VALUE[Piece.KING] = KING_VALUE;
+    }
+
+    // Tamanho do vetor de ganhos de uma troca (no máximo 32 peças podem participar)
+    public static final int GAIN_BUFFER_SIZE = 32;
+
+    private StaticExchange() {}
+
+    /**
+     * Retorna o ganho material esperado do lance para quem o faz, em centésimos de peão.
+     * Lances que não são capturas nem promoções valem 0 se a peça não puder ser tomada,
+     * ou o negativo do seu valor (ou menos) se ela ficar "pendurada" na casa de destino.
+     */
+    public static int evaluate(ChessModel model, int move) {
+        return evaluate(model, move, new int[GAIN_BUFFER_SIZE]);
+    }
+
+    /**
+     * Igual a evaluate(model, move), mas usando o vetor "gain" (com pelo menos GAIN_BUFFER_SIZE
+     * posições) como área de trabalho, para a busca não alocar nada a cada captura avaliada.
+     */
+    public static int evaluate(ChessModel model, int move, int[] gain) {
+        Board board = model.getBoard();
+        int from = Move.from(move);
+        int to = Move.to(move);
+        int moverIndex = board.pieceIndexAt(from);
+        if (moverIndex == BitboardSet.EMPTY) return 0;
+        boolean moverIsWhite = moverIndex < 6;
+
+        long occupied = board.occupancy() & ~(1L << from);
+
+        int victimIndex = board.pieceIndexAt(to);
+        gain[0] = victimIndex == BitboardSet.EMPTY ? 0 : VALUE[victimIndex % 6];
+        if (Move.isEnPassant(move)) {
+            gain[0] = VALUE[Piece.PAWN];
+            occupied &= ~(1L << (to + (moverIsWhite ? 8 : -8)));
+        }
+
+        // Peça que fica na casa (e pode ser capturada em seguida)
+        int onSquare = VALUE[moverIndex % 6];
+        if (Move.promotion(move) != 0) {
+            gain[0] += VALUE[Move.promotion(move)] - VALUE[Piece.PAWN];
+            onSquare = VALUE[Move.promotion(move)];
+        }
+
+        boolean sideIsWhite = !moverIsWhite;
+        int d = 0;
+        while (true) {
+            long attackers = board.attackersTo(to, sideIsWhite, occupied) & occupied;
+            if (attackers == 0) break;
+
+            // Recaptura com a peça menos valiosa
+            int type = Piece.PAWN;
+            long candidates = 0;
+            for (; type <= Piece.KING; type++) {
+                candidates = attackers & board.pieces(type, sideIsWhite);
+                if (candidates != 0) break;
+            }
+            // O rei só pode capturar se o outro lado não tiver mais atacantes
+            if (type == Piece.KING
+                    && (board.attackersTo(to, !sideIsWhite, occupied) & occupied) != 0) {
+                break;
+            }
+
+            d++;
+            gain[d] = onSquare - gain[d - 1];
+
+            occupied &= ~Long.lowestOneBit(candidates);
+            onSquare = VALUE[type];
+            sideIsWhite = !sideIsWhite;
+        }
+
+        // Volta pela sequência: em cada passo o lado escolhe entre recapturar ou parar
+        while (--d >= 0) {
+            gain[d] = -Math.max(-gain[d], gain[d + 1]);
+        }
+        return gain[0];
+    }
+
+    // Retorna true se o lance ganha pelo menos "threshold" centésimos de peão na troca
+    public static boolean isAtLeast(ChessModel model, int move, int threshold) {
+        return evaluate(model, move) >= threshold;
+    }
+}
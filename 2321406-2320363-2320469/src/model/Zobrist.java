@@ -0,0 +1,55 @@
+package model;
+
+import java.util.Random;
+
+// Chaves de Zobrist: um número aleatório de 64 bits para cada peça em cada casa, para o lado a jogar,
+// para cada combinação de direitos de roque e para cada coluna de en passant.
+// A chave de uma posição é o XOR das chaves dos seus elementos, então cada lance só precisa
+// "desligar" e "ligar" as chaves que mudaram (ver Board.setPiece e ChessModel.getHash).
+// A semente é fixa para que a mesma posição tenha sempre a mesma chave.
+final class Zobrist {
+
+    static final long[][] PIECES = new long[12][64];    // [índice da peça][casa]
+    static final long[] CASTLING = new long[16];        // [máscara ChessModel.CASTLE_*]
+    static final long[] EN_PASSANT_FILE = new long[8];  // [coluna]
+    static final long BLACK_TO_MOVE;
+
+    static {
+        Random random = new Random(0x5EED_C4E55L);
+        for (long[] keys : PIECES) {
+            for (int sq = 0; sq < 64; sq++) {
+                keys[sq] = random.nextLong();
+            }
+        }
+        // Sem direitos de roque a chave é 0, então a posição não muda de chave por isso
+        for (int i = 1; i < 16; i++) {
+            CASTLING[i] = random.nextLong();
+        }
+        for (int file = 0; file < 8; file++) {
+            EN_PASSANT_FILE[file] = random.nextLong();
+        }
+        BLACK_TO_MOVE = random.nextLong();
+    }
+
+    private Zobrist() {
+    }
+
+    // Calcula do zero a chave da posição (peças lidas dos bitboards do tabuleiro)
+    static long compute(Board board, boolean whiteTurn, int castlingRights, int enPassantSquare) {
+        long key = 0L;
+        long occupied = board.occupancy();
+        while (occupied != 0) {
+            int sq = Long.numberOfTrailingZeros(occupied);
+            occupied &= occupied - 1;
+            key ^= PIECES[board.pieceIndexAt(sq)][sq];
+        }
+        key ^= CASTLING[castlingRights];
+        if (enPassantSquare >= 0) {
+            key ^= EN_PASSANT_FILE[Bitboards.col(enPassantSquare)];
+        }
+        if (!whiteTurn) {
+            key ^= BLACK_TO_MOVE;
+        }
+        return key;
+    }
+}
@@ -1,16 +1,16 @@
 package observer;
 
-import java.util.List;
-import java.util.ArrayList;
+import java.util.concurrent.Executor;
 
 public interface Observable {
+	/* Cada observável guarda o seu próprio registro de observadores */
+    ObserverRegistry getObservers();
+
 	/* Implementação default para evitar código repetido */
-    List<Observer> OBSERVERS = new ArrayList<>();
+    default void addObserver(Observer o)   { getObservers().add(o); }
+    default void remObserver(Observer o)   { getObservers().remove(o); }
+    default void notifyObservers()         { getObservers().dispatch(this); }
 
-    default void addObserver(Observer o)   { OBSERVERS.add(o); }
-    default void remObserver(Observer o)   { OBSERVERS.remove(o); }
-    default void notifyObservers()         { 
-        for (Observer ob : List.copyOf(OBSERVERS))
-            ob.notify(this);
-    }
+    /* Entrega as notificações pelo executor informado, agrupando as rajadas (null = na hora, na mesma thread) */
+    default void setNotificationExecutor(Executor executor) { getObservers().setExecutor(executor); }
 }
@@ -0,0 +1,58 @@
+package observer;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Registro de observadores de um único observável.
+// A lista é copy-on-write: registrar e remover são seguros entre threads e a notificação
+// percorre a lista sem travas e sem copiá-la. Por padrão as notificações são entregues na hora,
+// na thread que as disparou; com um Executor configurado passam a ser assíncronas, e uma rajada
+// de notificações feitas antes da entrega (ex.: as duas da promoção) vira uma só entrega.
+public final class ObserverRegistry {
+    private final CopyOnWriteArrayList<Observer> observers = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean deliveryPending = new AtomicBoolean(false);
+    private volatile Executor executor; // null = entrega síncrona
+
+    public void add(Observer o) {
+        observers.add(o);
+    }
+
+    public void remove(Observer o) {
+        observers.remove(o);
+    }
+
+    // Define o Executor das entregas assíncronas, ou null para voltar às entregas síncronas
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    // Notifica os observadores de que "source" mudou
+    public void dispatch(Observable source) {
+        Executor current = executor;
+        if (current == null) {
+            deliver(source);
+            return;
+        }
+
+        // Só agenda uma entrega se não houver outra esperando; as demais notificações são absorvidas por ela
+        if (deliveryPending.compareAndSet(false, true)) {
+            try {
+                current.execute(() -> {
+                    // Libera antes de entregar: mudanças feitas durante a entrega agendam uma nova
+                    deliveryPending.set(false);
+                    deliver(source);
+                });
+            } catch (RejectedExecutionException e) {
+                deliveryPending.set(false);
+            }
+        }
+    }
+
+    private void deliver(Observable source) {
+        for (Observer ob : observers) {
+            ob.notify(source);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package view;
 
 import controller.GameController;
 import model.ChessModel;
+import model.Move;
+import model.MoveList;
 
 import javax.imageio.ImageIO;
 import javax.swing.*;
@@ -9,8 +11,6 @@ import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * Classe responsável pela visualização do tabuleiro de xadrez.
@@ -26,7 +26,7 @@ public class GameView extends JPanel {
     private String[] codes = {"bp", "br", "bn", "bb", "bq", "bk", "wp", "wr", "wn", "wb", "wq", "wk"};
     private Color white = new Color(243, 233, 208);  
     private Color black = new Color(60, 25, 99); 
-    private List<int[]> validMoves = new ArrayList<>(); // lista de arrays de posicoes validas
+    private MoveList validMoves = new MoveList(); // movimentos validos da peca selecionada (reaproveitada)
     private int selectedRow = -1;  // Linha da peça selecionada
     private int selectedCol = -1;  // Coluna da peça selecionada
     private boolean promotionMenuVisible = false;
@@ -62,7 +62,7 @@ public class GameView extends JPanel {
                 if (model.selectPiece(row, col)) {
                     selectedRow = row;
                     selectedCol = col;
-                    validMoves = model.getValidMovesForPiece(row, col);
+                    model.getValidMoves(row, col, validMoves);
                 } else {
                     try {
                         if (model.selectTargetSquare(row, col)) {
@@ -155,8 +155,13 @@ public class GameView extends JPanel {
 
         // Destaca os movimentos válidos da peça selecionada
         g2.setColor(new Color(128, 0, 0, 180));
-        for (int[] move : validMoves) {
-            g2.fillRect(move[1] * TILE_SIZE, move[0] * TILE_SIZE, TILE_SIZE, TILE_SIZE);
+        for (int i = 0; i < validMoves.size(); i++) {
+            int move = validMoves.get(i);
+            if (Move.isUnderPromotion(move)) {
+                continue; // promoções repetem o mesmo destino; pinta a casa uma única vez
+            }
+            int to = Move.to(move);
+            g2.fillRect(Move.col(to) * TILE_SIZE, Move.row(to) * TILE_SIZE, TILE_SIZE, TILE_SIZE);
         }
     }
 
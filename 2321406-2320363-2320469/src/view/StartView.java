@@ -24,13 +24,12 @@ public class StartView extends JFrame {
         // Nova partida (talvez mudar pra tirar esse action listener)
         newGameBtn.addActionListener(e -> {
             dispose();
-            ChessModel.resetInstance();
-            new ConsoleView(ChessModel.getInstance());
+            new ConsoleView(new ChessModel());
         });
 
         // Carregar FEN de arquivo .txt
         loadFENFileBtn.addActionListener(e -> {
-            GameController tempController = new GameController(ChessModel.getInstance());
+            GameController tempController = new GameController(new ChessModel());
             ChessModel loadedModel = tempController.loadMatchByFile(this);
 
             if (loadedModel != null) {
@@ -0,0 +1,15 @@
+package engine;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+
+@RunWith(Suite.class)
+@Suite.SuiteClasses({
+    SearchTest.class,
+    TranspositionTableTest.class,
+    LazySmpTest.class,
+    MoveOrderingTest.class,
+    TimeManagerTest.class,
+})
+
+public class AllEngineTests {}
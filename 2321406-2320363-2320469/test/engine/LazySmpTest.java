@@ -0,0 +1,68 @@
+package engine;
+
+import static org.junit.Assert.*;
+import model.ChessModel;
+import model.Move;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Classe de teste da busca paralela Lazy SMP (LazySmp).
+ */
+public class LazySmpTest {
+
+    private LazySmp smp;
+    private ChessModel position;
+
+    @Before
+    public void setup() {
+        smp = new LazySmp(4, 4);
+        position = new ChessModel();
+    }
+
+    @After
+    public void tearDown() {
+        smp.shutdown();
+    }
+
+    // Testa um mate em um lance com 4 threads - Resultado esperado: lance d1d8 com avaliação de mate
+    @Test(timeout = 2000)
+    public void findsMateInOne() {
+        position.loadFEN("6k1/5ppp/8/8/8/8/5PPP/3R2K1 w - - 0 1");
+
+        SearchResult result = smp.search(position, SearchLimits.depth(4));
+
+        assertEquals("d1d8", Move.toString(result.getBestMove()));
+        assertEquals(Search.MATE - 1, result.getScore());
+    }
+
+    // Testa a busca paralela contra a serial - Resultado esperado: mesma avaliação na mesma profundidade
+    @Test(timeout = 2000)
+    public void sameScoreAsSingleThread() {
+        position.loadFEN("4k3/8/8/3q4/8/8/8/3RK3 w - - 0 1");
+
+        SearchResult serial = new Search().search(position, SearchLimits.depth(4));
+        SearchResult parallel = smp.search(position, SearchLimits.depth(4));
+
+        assertEquals(serial.getScore(), parallel.getScore());
+        assertEquals("d1d5", Move.toString(parallel.getBestMove()));
+        assertEquals(4, parallel.getDepth());
+    }
+
+    // Testa o limite de tempo com 4 threads - Resultado esperado: todas as threads param e um lance é retornado
+    @Test(timeout = 2000)
+    public void respectsTimeLimit() {
+        long start = System.currentTimeMillis();
+        SearchResult result = smp.search(position, SearchLimits.time(100));
+
+        assertTrue(System.currentTimeMillis() - start < 1000);
+        assertTrue(result.getBestMove() != Move.NONE);
+    }
+
+    // Testa o número de threads inválido - Resultado esperado: IllegalArgumentException
+    @Test(expected = IllegalArgumentException.class, timeout = 2000)
+    public void rejectsZeroThreads() {
+        new LazySmp(0, 1);
+    }
+}
@@ -0,0 +1,114 @@
+package engine;
+
+import static org.junit.Assert.*;
+import java.util.EnumSet;
+import model.ChessModel;
+import model.Move;
+import model.MoveList;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Classe de teste da ordenação de lances da busca (MoveOrdering).
+ */
+public class MoveOrderingTest {
+
+    private MoveOrdering ordering;
+    private ChessModel position;
+    private MoveList moves;
+    private int[] scores;
+
+    @Before
+    public void setup() {
+        ordering = new MoveOrdering();
+        position = new ChessModel();
+        moves = new MoveList();
+        scores = new int[MoveList.CAPACITY];
+    }
+
+    // Devolve os lances na ordem em que a busca os tentaria
+    private String[] ordered(int ttMove, int ply, int previousMove) {
+        position.generateLegalMoves(moves);
+        ordering.score(position, moves, scores, ttMove, ply, previousMove);
+        String[] result = new String[moves.size()];
+        for (int i = 0; i < moves.size(); i++) {
+            result[i] = Move.toString(MoveOrdering.pickNext(moves, scores, i));
+        }
+        return result;
+    }
+
+    private int findMove(String text) {
+        position.generateLegalMoves(moves);
+        for (int i = 0; i < moves.size(); i++) {
+            if (Move.toString(moves.get(i)).equals(text)) return moves.get(i);
+        }
+        throw new IllegalArgumentException(text);
+    }
+
+    // Testa a ordem das capturas - Resultado esperado: peão captura dama antes de torre captura dama, e depois torre captura peão
+    @Test(timeout = 2000)
+    public void capturesByMvvLva() {
+        position.loadFEN("4k3/8/8/1p1q4/2P5/8/8/1R1RK3 w - - 0 1");
+
+        String[] order = ordered(Move.NONE, 0, Move.NONE);
+
+        assertEquals("c4d5", order[0]);
+        assertEquals("d1d5", order[1]);
+        assertEquals("c4b5", order[2]);
+        assertEquals("b1b5", order[3]);
+    }
+
+    // Testa o lance da tabela de transposição - Resultado esperado: tentado antes de qualquer captura
+    @Test(timeout = 2000)
+    public void ttMoveComesFirst() {
+        position.loadFEN("4k3/8/8/1p1q4/2P5/8/8/1R1RK3 w - - 0 1");
+        int ttMove = findMove("e1e2");
+
+        assertEquals("e1e2", ordered(ttMove, 0, Move.NONE)[0]);
+    }
+
+    // Testa os lances matadores - Resultado esperado: o quieto que causou corte vem logo depois das capturas, só no mesmo ply
+    @Test(timeout = 2000)
+    public void killerComesAfterCaptures() {
+        position.loadFEN("4k3/8/8/1p1q4/2P5/8/8/1R1RK3 w - - 0 1");
+        EnumSet<SearchFeature> features = EnumSet.allOf(SearchFeature.class);
+        features.remove(SearchFeature.HISTORY);
+        ordering.setFeatures(features);
+        int killer = findMove("e1f2");
+        ordering.updateQuiet(position, killer, 3, 4, Move.NONE, new int[0], 0);
+
+        assertEquals("e1f2", ordered(Move.NONE, 3, Move.NONE)[4]);
+        assertFalse("e1f2".equals(ordered(Move.NONE, 2, Move.NONE)[4]));
+    }
+
+    // Testa o histórico desligado - Resultado esperado: o quieto com corte não ganha prioridade em outro ply
+    @Test(timeout = 2000)
+    public void historyCanBeDisabled() {
+        position.loadFEN("4k3/8/8/8/8/8/8/R3K3 w - - 0 1");
+        int quiet = findMove("a1a7");
+        ordering.updateQuiet(position, quiet, 1, 10, Move.NONE, new int[0], 0);
+
+        assertEquals("a1a7", ordered(Move.NONE, 5, Move.NONE)[0]);
+
+        EnumSet<SearchFeature> features = EnumSet.allOf(SearchFeature.class);
+        features.remove(SearchFeature.HISTORY);
+        ordering.setFeatures(features);
+        assertFalse("a1a7".equals(ordered(Move.NONE, 5, Move.NONE)[0]));
+    }
+
+    // Testa a busca com e sem as heurísticas - Resultado esperado: mesma avaliação, menos nós com ordenação
+    @Test(timeout = 2000)
+    public void orderingReducesNodes() {
+        position.loadFEN("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+        Search ordered = new Search(new TranspositionTable(1));
+        Search unordered = new Search(new TranspositionTable(1));
+        unordered.setFeatures(EnumSet.of(SearchFeature.QUIESCENCE, SearchFeature.SEE));
+
+        SearchResult fast = ordered.search(position, SearchLimits.depth(3));
+        SearchResult slow = unordered.search(position, SearchLimits.depth(3));
+
+        assertEquals(slow.getScore(), fast.getScore());
+        assertTrue(fast.getNodes() < slow.getNodes());
+        assertTrue(ordered.getFirstMoveCutoffPermille() > unordered.getFirstMoveCutoffPermille());
+    }
+}
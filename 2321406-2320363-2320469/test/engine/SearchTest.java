@@ -0,0 +1,126 @@
+package engine;
+
+import static org.junit.Assert.*;
+import java.util.EnumSet;
+import model.ChessModel;
+import model.Move;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Classe de teste da busca alfa-beta com aprofundamento iterativo (Search).
+ */
+public class SearchTest {
+
+    private Search search;
+    private ChessModel position;
+
+    @Before
+    public void setup() {
+        search = new Search();
+        position = new ChessModel();
+    }
+
+    // Testa um mate em um lance (Td8#) - Resultado esperado: lance d1d8 com avaliação de mate
+    @Test(timeout = 2000)
+    public void findsMateInOne() {
+        position.loadFEN("6k1/5ppp/8/8/8/8/5PPP/3R2K1 w - - 0 1");
+
+        SearchResult result = search.search(position, SearchLimits.depth(4));
+
+        assertEquals("d1d8", Move.toString(result.getBestMove()));
+        assertEquals(Search.MATE - 1, result.getScore());
+        assertTrue(result.isMateScore());
+    }
+
+    // Testa um mate (Dg7#) dado no centésimo meio-lance sem captura - Resultado esperado: mate, não empate pelos 50 lances
+    @Test(timeout = 2000)
+    public void mateBeatsFiftyMoveRule() {
+        position.loadFEN("7k/8/5K2/8/8/8/8/6Q1 w - - 99 80");
+
+        SearchResult result = search.search(position, SearchLimits.depth(3));
+
+        assertEquals("g1g7", Move.toString(result.getBestMove()));
+        assertEquals(Search.MATE - 1, result.getScore());
+    }
+
+    // Testa a captura de uma dama indefesa - Resultado esperado: Txd5 e variação principal começando pelo lance
+    // (com pelo menos 3 lances: xeques estendem a linha)
+    @Test(timeout = 2000)
+    public void capturesHangingQueen() {
+        position.loadFEN("4k3/8/8/3q4/8/8/8/3RK3 w - - 0 1");
+
+        SearchResult result = search.search(position, SearchLimits.depth(3));
+
+        assertEquals("d1d5", Move.toString(result.getBestMove()));
+        assertEquals(result.getBestMove(), result.getPv()[0]);
+        assertTrue(result.getPv().length >= 3);
+        assertTrue(result.getScore() > 400);
+    }
+
+    // Testa o limite de nós - Resultado esperado: a busca para logo depois do limite e ainda retorna um lance
+    @Test(timeout = 2000)
+    public void respectsNodeLimit() {
+        SearchResult result = search.search(position, SearchLimits.nodes(5000));
+
+        assertTrue(result.getNodes() <= 5000);
+        assertTrue(result.getBestMove() != Move.NONE);
+    }
+
+    // Testa o limite de tempo - Resultado esperado: busca sem limite de profundidade termina perto de 100 ms
+    @Test(timeout = 2000)
+    public void respectsTimeLimit() {
+        SearchResult result = search.search(position, SearchLimits.time(100));
+
+        assertTrue(result.getTimeMillis() < 500);
+        assertTrue(result.getDepth() >= 1);
+    }
+
+    // Testa se a posição buscada fica intacta - Resultado esperado: mesma FEN antes e depois
+    @Test(timeout = 2000)
+    public void rootPositionUnchanged() {
+        position.loadFEN("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+        String before = position.generateFEN();
+
+        search.search(position, SearchLimits.depth(2));
+
+        assertEquals(before, position.generateFEN());
+    }
+
+    // Testa o efeito horizonte (dama captura peão defendido) com profundidade 1 - Resultado esperado: a quiescência evita a captura
+    @Test(timeout = 2000)
+    public void quiescenceAvoidsHorizonBlunder() {
+        position.loadFEN("4k3/8/2p5/3p4/8/8/8/3QK3 w - - 0 1");
+
+        SearchResult result = search.search(position, SearchLimits.depth(1));
+
+        assertFalse("d1d5".equals(Move.toString(result.getBestMove())));
+        assertTrue(result.getScore() > 600 && result.getScore() < 1000); // dama contra dois peões
+    }
+
+    // Testa a busca seletiva contra a busca sem podas nem reduções - Resultado esperado: mesmo lance, menos nós
+    @Test(timeout = 2000)
+    public void selectiveSearchKeepsBestMove() {
+        position.loadFEN("4k3/8/8/3q4/8/8/8/3RK3 w - - 0 1");
+        Search plain = new Search();
+        plain.setFeatures(EnumSet.of(SearchFeature.TT_MOVE, SearchFeature.MVV_LVA,
+            SearchFeature.QUIESCENCE, SearchFeature.SEE));
+
+        SearchResult full = plain.search(position, SearchLimits.depth(5));
+        SearchResult selective = search.search(position, SearchLimits.depth(5));
+
+        assertEquals(Move.toString(full.getBestMove()), Move.toString(selective.getBestMove()));
+        assertTrue(selective.getNodes() < full.getNodes());
+    }
+
+    // Testa um final de peões (só rei e peões, onde o lance nulo fica desligado) - Resultado esperado: o peão avança e promove
+    @Test(timeout = 2000)
+    public void pawnEndgameWithoutNullMove() {
+        position.loadFEN("7k/8/8/8/8/8/P7/K7 w - - 0 1");
+
+        SearchResult result = search.search(position, SearchLimits.depth(8));
+
+        assertEquals("a2a4", Move.toString(result.getBestMove()));
+        assertTrue(result.getScore() > 500);
+    }
+}
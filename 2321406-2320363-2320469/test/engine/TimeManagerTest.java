@@ -0,0 +1,94 @@
+package engine;
+
+import static org.junit.Assert.*;
+import java.util.EnumSet;
+import model.ChessModel;
+import model.Move;
+import org.junit.Test;
+
+/**
+ * Classe de teste do controle de tempo da busca (TimeManager) e das janelas de aspiração.
+ */
+public class TimeManagerTest {
+
+    private static final long MS = 1_000_000;
+
+    // Testa a divisão do relógio em morte súbita com incremento - Resultado esperado: restante / 30 + 3/4 do incremento, rígido 4x
+    @Test(timeout = 2000)
+    public void suddenDeathAllocation() {
+        TimeManager time = new TimeManager(SearchLimits.clock(60_030, 1000, 0), 0);
+
+        assertEquals(60_000 / 30 + 750, time.getSoftMillis());
+        assertEquals(4 * (60_000 / 30 + 750), time.getHardMillis());
+    }
+
+    // Testa o último lance antes do controle - Resultado esperado: os limites nunca passam do tempo restante
+    @Test(timeout = 2000)
+    public void lastMoveBeforeControl() {
+        TimeManager time = new TimeManager(SearchLimits.clock(1030, 0, 1), 0);
+
+        assertEquals(1000, time.getSoftMillis());
+        assertEquals(1000, time.getHardMillis());
+    }
+
+    // Testa o tempo fixo sem relógio - Resultado esperado: só limite rígido, nenhuma parada entre iterações
+    @Test(timeout = 2000)
+    public void fixedTimeHasOnlyHardLimit() {
+        TimeManager time = new TimeManager(SearchLimits.time(500), 0);
+
+        assertEquals(500, time.getHardMillis());
+        assertEquals(500 * MS, time.hardDeadline());
+        assertFalse(time.iterationDone(1, 0, 499 * MS));
+    }
+
+    // Testa o melhor lance estável por várias iterações - Resultado esperado: para com metade do tempo flexível
+    @Test(timeout = 2000)
+    public void stableBestMoveStopsEarly() {
+        TimeManager time = new TimeManager(SearchLimits.clock(30_030, 0, 0), 0); // flexível de 1000 ms
+
+        for (int i = 0; i < TimeManager.STABLE_ITERATIONS; i++) {
+            assertFalse(time.iterationDone(1, 0, 100 * MS));
+        }
+        assertTrue(time.iterationDone(1, 0, 600 * MS));
+    }
+
+    // Testa uma queda grande da avaliação - Resultado esperado: continua buscando depois do tempo flexível
+    @Test(timeout = 2000)
+    public void scoreDropExtendsTime() {
+        TimeManager time = new TimeManager(SearchLimits.clock(30_030, 0, 0), 0);
+
+        assertFalse(time.iterationDone(1, 0, 100 * MS));
+        assertFalse(time.iterationDone(2, -2 * TimeManager.SCORE_DROP, 1500 * MS));
+        assertTrue(time.iterationDone(3, -2 * TimeManager.SCORE_DROP, 1100 * MS));
+    }
+
+    // Testa a busca com relógio curto - Resultado esperado: termina antes do limite rígido e retorna um lance
+    @Test(timeout = 2000)
+    public void searchRespectsClock() {
+        ChessModel position = new ChessModel();
+        position.loadFEN("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+
+        SearchResult result = new Search().search(position, SearchLimits.clock(3000, 0, 0));
+
+        assertTrue(result.getTimeMillis() <= 4 * (2970 / 30) + 50);
+        assertTrue(result.getBestMove() != Move.NONE);
+    }
+
+    // Testa as janelas de aspiração - Resultado esperado: mesma avaliação com e sem janela
+    @Test(timeout = 2000)
+    public void aspirationKeepsScore() {
+        ChessModel position = new ChessModel();
+        position.loadFEN("4k3/8/8/3q4/8/8/8/3RK3 w - - 0 1");
+        Search narrow = new Search();
+        Search wide = new Search();
+        EnumSet<SearchFeature> features = EnumSet.allOf(SearchFeature.class);
+        features.remove(SearchFeature.ASPIRATION);
+        wide.setFeatures(features);
+
+        SearchResult a = narrow.search(position, SearchLimits.depth(6));
+        SearchResult b = wide.search(position, SearchLimits.depth(6));
+
+        assertEquals(b.getScore(), a.getScore());
+        assertEquals(b.getBestMove(), a.getBestMove());
+    }
+}
@@ -0,0 +1,114 @@
+package engine;
+
+import static org.junit.Assert.*;
+import model.ChessModel;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Classe de teste da tabela de transposição (TranspositionTable).
+ */
+public class TranspositionTableTest {
+
+    private TranspositionTable table;
+
+    @Before
+    public void setup() {
+        table = new TranspositionTable(1);
+    }
+
+    // Testa guardar e consultar uma posição - Resultado esperado: os mesmos lance, avaliação, profundidade e limite
+    @Test(timeout = 2000)
+    public void storeAndProbe() {
+        long key = 0x123456789ABCDEFL;
+        table.store(key, 0x4321, -250, 7, TranspositionTable.LOWER);
+
+        long entry = table.probe(key);
+
+        assertTrue(entry != 0);
+        assertEquals(0x4321, TranspositionTable.move(entry));
+        assertEquals(-250, TranspositionTable.score(entry));
+        assertEquals(7, TranspositionTable.depth(entry));
+        assertEquals(TranspositionTable.LOWER, TranspositionTable.bound(entry));
+    }
+
+    // Testa a consulta de uma posição com o mesmo índice mas outra chave - Resultado esperado: ausente e colisão contada
+    @Test(timeout = 2000)
+    public void keyVerificationRejectsOtherPosition() {
+        long key = 0x1000L;
+        table.store(key, 1, 10, 3, TranspositionTable.EXACT);
+
+        assertEquals(0L, table.probe(key ^ (1L << 60)));
+        assertEquals(1, table.getCollisions());
+    }
+
+    // Testa a substituição num balde cheio - Resultado esperado: a entrada mais profunda fica e a rasa vai para a outra
+    @Test(timeout = 2000)
+    public void depthPreferredAndAlwaysReplace() {
+        long deep = 0x2000L;
+        long shallow = deep | (1L << 50);
+        long newer = deep | (1L << 51);
+
+        table.store(deep, 1, 0, 10, TranspositionTable.EXACT);
+        table.store(shallow, 2, 0, 2, TranspositionTable.EXACT);
+        table.store(newer, 3, 0, 1, TranspositionTable.EXACT);
+
+        assertEquals(10, TranspositionTable.depth(table.probe(deep)));
+        assertEquals(0L, table.probe(shallow));
+        assertEquals(3, TranspositionTable.move(table.probe(newer)));
+    }
+
+    // Testa o envelhecimento - Resultado esperado: numa busca nova, uma entrada rasa substitui a profunda antiga
+    @Test(timeout = 2000)
+    public void oldGenerationIsReplaced() {
+        long old = 0x3000L;
+        long current = old | (1L << 50);
+
+        table.store(old, 1, 0, 10, TranspositionTable.EXACT);
+        table.newSearch();
+        table.store(current, 2, 0, 1, TranspositionTable.EXACT);
+        table.store(current | (1L << 51), 3, 0, 0, TranspositionTable.EXACT);
+
+        assertEquals(0L, table.probe(old));
+        assertEquals(2, TranspositionTable.move(table.probe(current)));
+    }
+
+    // Testa a conversão de avaliações de mate - Resultado esperado: ida e volta devolvem o valor original
+    @Test(timeout = 2000)
+    public void mateScoresAreAdjustedByPly() {
+        int mate = Search.MATE - 5;
+
+        assertEquals(mate + 3, TranspositionTable.scoreToTable(mate, 3));
+        assertEquals(mate, TranspositionTable.scoreFromTable(TranspositionTable.scoreToTable(mate, 3), 3));
+        assertEquals(-mate, TranspositionTable.scoreFromTable(TranspositionTable.scoreToTable(-mate, 3), 3));
+        assertEquals(120, TranspositionTable.scoreToTable(120, 3));
+    }
+
+    // Testa as estatísticas depois de uma busca - Resultado esperado: acertos e ocupação maiores que zero
+    @Test(timeout = 2000)
+    public void searchFillsTable() {
+        Search search = new Search(table);
+        ChessModel position = new ChessModel();
+        position.loadFEN("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+
+        search.search(position, SearchLimits.depth(5));
+
+        assertTrue(table.getHits() > 0);
+        assertTrue(table.hitRatePermille() > 0);
+        assertTrue(table.fillPermille() > 0);
+    }
+
+    // Testa a busca com a tabela limpa e com a tabela já preenchida - Resultado esperado: mesmo lance e avaliação
+    @Test(timeout = 2000)
+    public void reusedTableGivesSameResult() {
+        ChessModel position = new ChessModel();
+        position.loadFEN("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+        Search search = new Search(table);
+
+        SearchResult first = search.search(position, SearchLimits.depth(3));
+        SearchResult second = search.search(position, SearchLimits.depth(3));
+
+        assertEquals(first.getScore(), second.getScore());
+        assertTrue(second.getNodes() < first.getNodes());
+    }
+}
@@ -12,6 +12,18 @@ import org.junit.runners.Suite;
     ChessModelSpecialMovesTest.class,
     ChessModelFENTest.class,
     ChessModelObserverTest.class,
+    ChessModelMakeUnmakeTest.class,
+    ChessModelHashTest.class,
+    ChessModelDrawTest.class,
+    ChessModelMaterialTest.class,
+    ChessModelConcurrencyTest.class,
+    ChessModelStatusTest.class,
+    MoveGeneratorTest.class,
+    PerftTest.class,
+    ParallelPerftTest.class,
+    StaticExchangeTest.class,
+    EvaluationTest.class,
+    PawnStructureTest.class,
 })
 
 public class AllChessModelTests {}
\ No newline at end of file
@@ -13,6 +13,8 @@ import org.junit.runners.Suite;
     KingTest.class,
     PieceTest.class,
     BoardTest.class,
+    BitboardSetTest.class,
+    MagicsTest.class,
     PositionTest.class
 })
 
@@ -0,0 +1,48 @@
+package model;
+
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+// Testa os bitboards que servem de armazenamento ao tabuleiro (Board): ocupação, índices de peça e rei.
+public class BitboardSetTest {
+
+    private Board board_filled;
+
+    @Before
+    public void prepare() {
+        board_filled = new Board(false);
+    }
+
+    // Testa a ocupação da posição inicial - Resultado esperado: 16 peças de cada cor, 32 no total
+    @Test(timeout = 2000)
+    public void testInitialOccupancy() {
+        assertEquals(16, Long.bitCount(board_filled.occupancy(true)));
+        assertEquals(16, Long.bitCount(board_filled.occupancy(false)));
+        assertEquals(32, Long.bitCount(board_filled.occupancy()));
+        assertEquals(8, Long.bitCount(board_filled.pieces(Piece.PAWN, true)));
+    }
+
+    // Testa se os bitboards acompanham a movimentação e a captura - Resultado esperado: bits atualizados
+    @Test(timeout = 2000)
+    public void testBitsFollowMoveAndCapture() {
+        board_filled.movePiece(new Position(7, 1), new Position(1, 0)); // cavalo branco captura peão em a7
+
+        int a7 = Bitboards.square(1, 0);
+        assertEquals(BitboardSet.index(Piece.KNIGHT, true), board_filled.pieceIndexAt(a7));
+        assertEquals(BitboardSet.EMPTY, board_filled.pieceIndexAt(Bitboards.square(7, 1)));
+        assertEquals(7, Long.bitCount(board_filled.pieces(Piece.PAWN, false)));
+        assertEquals(31, Long.bitCount(board_filled.occupancy()));
+    }
+
+    // Testa a localização dos reis pelo bitboard - Resultado esperado: e1 e e8; -1 no tabuleiro vazio
+    @Test(timeout = 2000)
+    public void testKingSquare() {
+        assertEquals(Bitboards.square(7, 4), board_filled.kingSquare(true));
+        assertEquals(Bitboards.square(0, 4), board_filled.kingSquare(false));
+
+        board_filled.clear();
+        assertEquals(-1, board_filled.kingSquare(true));
+        assertEquals(0L, board_filled.occupancy());
+    }
+}
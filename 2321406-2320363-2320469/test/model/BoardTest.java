@@ -50,6 +50,18 @@ public class BoardTest {
         assertTrue("Peça movida para nova posição", board_filled.getPiece(to.row, to.col) instanceof Rook);
     }
 
+    // Testa se a casa do rei acompanha o movimento e a remoção do rei - Resultado esperado: e2 após mover, -1 após remover
+    @Test(timeout = 2000)
+    public void testKingSquareFollowsKing() {
+        board_filled.setPiece(6, 4, null);
+        board_filled.movePiece(new Position(7, 4), new Position(6, 4)); // Rei branco e1 -> e2
+        assertEquals(Bitboards.square(6, 4), board_filled.kingSquare(true));
+
+        board_filled.setPiece(6, 4, new Queen(false)); // rei capturado (só em testes)
+        assertEquals(-1, board_filled.kingSquare(true));
+        assertEquals(Bitboards.square(0, 4), board_filled.kingSquare(false));
+    }
+
     // Testa o método isEmpty() após a movimentação de uma peça - Resultado esperado: origem vazia, destino ocupada
     @Test(timeout = 2000)
     public void testIsEmptyAfterMove() {
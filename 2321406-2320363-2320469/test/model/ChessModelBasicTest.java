@@ -1,7 +1,6 @@
 package model;
 
 import static org.junit.Assert.*;
-import org.junit.Before;
 import org.junit.Test;
 
 /**
@@ -10,21 +9,12 @@ import org.junit.Test;
  */
 public class ChessModelBasicTest {
 
-    /**
-     * Executa antes de cada teste.
-     * Reinicializa a instância única do modelo de xadrez para garantir estado limpo.
-     */
-    @Before
-    public void setup() {
-        ChessModel.resetInstance();
-    }
-
     /**
      * Testa se os reis branco e preto não estão em cheque no início do jogo padrão.
      */
     @Test(timeout = 2000)
     public void kingIsNotInCheckAtStart() {
-        ChessModel model = ChessModel.getInstance();
+        ChessModel model = new ChessModel();
 
         assertFalse("Rei branco não deve estar em cheque no início do jogo", model.isInCheck(true));
         assertFalse("Rei preto não deve estar em cheque no início do jogo", model.isInCheck(false));
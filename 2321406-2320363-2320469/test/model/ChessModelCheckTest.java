@@ -1,7 +1,6 @@
 package model;
 
 import static org.junit.Assert.*;
-import org.junit.Before;
 import org.junit.Test;
 
 /**
@@ -10,15 +9,6 @@ import org.junit.Test;
  */
 public class ChessModelCheckTest {
 
-    /**
-     * Executa antes de cada teste.
-     * Reinicializa a instância única do modelo de xadrez para garantir estado limpo.
-     */
-    @Before
-    public void setup() {
-        ChessModel.resetInstance();
-    }
-
     // Testa se o rei branco está em cheque quando uma torre preta está alinhada na mesma coluna.
     @Test(timeout = 2000)
     public void whiteKingInCheckFromRook() {
@@ -27,7 +17,7 @@ public class ChessModelCheckTest {
         board.setPiece(7, 4, new King(true));       // Rei branco em e1
         board.setPiece(0, 4, new Rook(false));      // Torre preta em e8
 
-        ChessModel model = ChessModel.getInstance();
+        ChessModel model = new ChessModel();
         model.setBoard(board);
 
         assertTrue("Rei branco deve estar em cheque pela torre preta", model.isInCheck(true));
@@ -42,7 +32,7 @@ public class ChessModelCheckTest {
         board.setPiece(4, 3, new King(true));        // Rei branco em d4
         board.setPiece(1, 0, new Bishop(false));     // Bispo preto em a7
 
-        ChessModel model = ChessModel.getInstance();
+        ChessModel model = new ChessModel();
         model.setBoard(board);
 
         assertTrue("Rei branco deve estar em cheque pelo bispo preto", model.isInCheck(true));
@@ -58,13 +48,48 @@ public class ChessModelCheckTest {
         board.setPiece(0, 4, new Rook(false));       // Torre preta em e8
         board.setPiece(1, 7, new Bishop(false));     // Bispo preto em h7
 
-        ChessModel model = ChessModel.getInstance();
+        ChessModel model = new ChessModel();
         model.setBoard(board);
 
         assertTrue("Rei branco deve estar em cheque duplo (torre e bispo)", model.isInCheck(true));
     }
 
  
+    // Testa cheques de cavalo e de peão, detectados a partir da casa do rei
+    @Test(timeout = 2000)
+    public void whiteKingInCheckFromKnightAndPawn() {
+        Board board = new Board(true);
+        board.setPiece(7, 4, new King(true));        // Rei branco em e1
+        board.setPiece(5, 3, new Knight(false));     // Cavalo preto em d3
+
+        ChessModel model = new ChessModel();
+        model.setBoard(board);
+        assertTrue("Rei branco deve estar em cheque pelo cavalo preto", model.isInCheck(true));
+
+        board.setPiece(5, 3, null);
+        board.setPiece(6, 5, new Pawn(false));       // Peão preto em f2
+        assertTrue("Rei branco deve estar em cheque pelo peão preto", model.isInCheck(true));
+
+        board.setPiece(6, 5, null);
+        board.setPiece(6, 4, new Pawn(false));       // Peão preto em e2 (não ataca para frente)
+        assertFalse("Peão não ataca a casa à sua frente", model.isInCheck(true));
+    }
+
+    // Testa a consulta de casa atacada: o raio da torre para na primeira peça
+    @Test(timeout = 2000)
+    public void squareAttackedStopsAtFirstBlocker() {
+        Board board = new Board(true);
+        board.setPiece(0, 0, new Rook(false));       // Torre preta em a8
+        board.setPiece(4, 0, new Pawn(true));        // Peão branco em a4
+
+        ChessModel model = new ChessModel();
+        model.setBoard(board);
+
+        assertTrue("a5 é atacada pela torre", model.isSquareAttacked(3, 0, false));
+        assertTrue("a4 (bloqueio) é atacada pela torre", model.isSquareAttacked(4, 0, false));
+        assertFalse("a3 está atrás do bloqueio", model.isSquareAttacked(5, 0, false));
+    }
+
      // Testa se o rei branco não está em cheque quando um peão aliado bloqueia a linha de ataque da torre adversária.
     @Test(timeout = 2000)
     public void whiteKingProtectedByPawn() {
@@ -74,7 +99,7 @@ public class ChessModelCheckTest {
         board.setPiece(6, 4, new Pawn(true));        // Peão branco em e2 (protege o rei)
         board.setPiece(0, 4, new Rook(false));       // Torre preta em e8
 
-        ChessModel model = ChessModel.getInstance();
+        ChessModel model = new ChessModel();
         model.setBoard(board);
 
         assertFalse("Rei branco não deve estar em cheque porque o peão branco bloqueia a torre", model.isInCheck(true));
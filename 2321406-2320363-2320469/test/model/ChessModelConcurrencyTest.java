@@ -0,0 +1,72 @@
+package model;
+
+import static org.junit.Assert.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+/**
+ * Classe de teste de várias partidas (instâncias de ChessModel) jogadas ao mesmo tempo em threads diferentes.
+ * Cada partida deve terminar exatamente como quando é jogada sozinha, sem interferência das demais.
+ */
+public class ChessModelConcurrencyTest {
+
+    private static final int GAMES = 32;
+    private static final int PLIES = 80;
+
+    // Joga N partidas em paralelo e compara com as mesmas partidas jogadas em sequência - Resultado esperado: mesmas FENs
+    @Test(timeout = 2000)
+    public void parallelGamesDoNotInterfere() throws Exception {
+        String[] expected = new String[GAMES];
+        for (int g = 0; g < GAMES; g++) {
+            expected[g] = play(g, new AtomicInteger());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            List<AtomicInteger> notifications = new ArrayList<>();
+            for (int g = 0; g < GAMES; g++) {
+                final int game = g;
+                AtomicInteger counter = new AtomicInteger();
+                notifications.add(counter);
+                results.add(executor.submit(() -> play(game, counter)));
+            }
+            for (int g = 0; g < GAMES; g++) {
+                assertEquals("Partida " + g, expected[g], results.get(g).get());
+            }
+            // Cada observador só recebe as notificações da sua própria partida
+            AtomicInteger serialCount = new AtomicInteger();
+            play(0, serialCount);
+            assertEquals(serialCount.get(), notifications.get(0).get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // Joga uma partida determinística (a escolha de cada lance depende do número da partida) e retorna a FEN final
+    private static String play(int game, AtomicInteger notifications) {
+        ChessModel model = new ChessModel();
+        model.addObserver(o -> notifications.incrementAndGet());
+
+        MoveList moves = new MoveList();
+        for (int ply = 0; ply < PLIES; ply++) {
+            model.generateLegalMoves(moves);
+            if (moves.size() == 0) break;
+
+            int move = moves.get((ply * 31 + game * 17) % moves.size());
+            int from = Move.from(move);
+            int to = Move.to(move);
+            assertTrue(model.selectPiece(Move.row(from), Move.col(from)));
+            assertTrue(model.selectTargetSquare(Move.row(to), Move.col(to)));
+            if (model.hasPendingPromotion()) {
+                model.promotePawn("queen");
+            }
+        }
+        return model.generateFEN();
+    }
+}
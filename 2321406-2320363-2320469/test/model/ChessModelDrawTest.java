@@ -0,0 +1,82 @@
+package model;
+
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Classe de teste dos empates por repetição tripla e pela regra dos 50 lances.
+ */
+public class ChessModelDrawTest {
+
+    private ChessModel model;
+
+    @Before
+    public void setup() {
+        model = new ChessModel();
+    }
+
+    // Testa os cavalos indo e voltando duas vezes - Resultado esperado: repetição tripla só no oitavo meio-lance
+    @Test(timeout = 2000)
+    public void knightShuffleRepeatsThreeTimes() {
+        for (int i = 0; i < 2; i++) {
+            assertFalse(model.isThreefoldRepetition());
+            shuffleKnights();
+        }
+        assertTrue("Posição inicial ocorreu três vezes", model.isThreefoldRepetition());
+
+        model.unmakeMove();
+        assertFalse("Desfazer o lance desfaz a repetição", model.isThreefoldRepetition());
+    }
+
+    // Testa uma repetição interrompida por lance de peão - Resultado esperado: posições antes do lance não contam
+    @Test(timeout = 2000)
+    public void irreversibleMoveStopsRepetitionScan() {
+        shuffleKnights();
+        model.makeMove(Move.encode(Bitboards.square(6, 0), Bitboards.square(5, 0), 0, 0)); // a3
+        model.makeMove(Move.encode(Bitboards.square(1, 0), Bitboards.square(2, 0), 0, 0)); // a6
+        shuffleKnights();
+
+        assertEquals(2, model.countRepetitions());
+        assertFalse(model.isThreefoldRepetition());
+    }
+
+    // Testa o relógio dos 50 lances carregado de FEN - Resultado esperado: empate após o centésimo meio-lance
+    @Test(timeout = 2000)
+    public void fiftyMoveRule() {
+        model.loadFEN("4k3/8/8/8/8/8/8/4K1N1 w - - 99 80");
+        assertFalse(model.isFiftyMoveRule());
+
+        model.makeMove(Move.encode(Bitboards.square(7, 6), Bitboards.square(5, 5), 0, 0)); // Cf3
+        assertTrue(model.isFiftyMoveRule());
+
+        model.unmakeMove();
+        assertFalse(model.isFiftyMoveRule());
+    }
+
+    // Testa Cf3, lance nulo, Cg1, lance nulo - Resultado esperado: sem repetição (o adversário só passou a vez)
+    @Test(timeout = 2000)
+    public void nullMovesDoNotCreateRepetitions() {
+        model.makeMove(Move.encode(Bitboards.square(7, 6), Bitboards.square(5, 5), 0, 0)); // Cf3
+        model.makeNullMove();
+        model.makeMove(Move.encode(Bitboards.square(5, 5), Bitboards.square(7, 6), 0, 0)); // Cg1
+        model.makeNullMove();
+        assertFalse(model.isRepetition());
+
+        // Desfeitos os lances nulos, a busca volta a enxergar as repetições reais
+        model.unmakeMove();
+        model.unmakeMove();
+        model.unmakeMove();
+        model.unmakeMove();
+        shuffleKnights();
+        assertTrue(model.isRepetition());
+    }
+
+    // Cf3 Cf6 Cg1 Cg8
+    private void shuffleKnights() {
+        model.makeMove(Move.encode(Bitboards.square(7, 6), Bitboards.square(5, 5), 0, 0));
+        model.makeMove(Move.encode(Bitboards.square(0, 6), Bitboards.square(2, 5), 0, 0));
+        model.makeMove(Move.encode(Bitboards.square(5, 5), Bitboards.square(7, 6), 0, 0));
+        model.makeMove(Move.encode(Bitboards.square(2, 5), Bitboards.square(0, 6), 0, 0));
+    }
+}
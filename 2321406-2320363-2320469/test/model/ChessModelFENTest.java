@@ -1,7 +1,6 @@
 package model;
 
 import static org.junit.Assert.*;
-import org.junit.Before;
 import org.junit.Test;
 
 /**
@@ -9,15 +8,6 @@ import org.junit.Test;
  */
 public class ChessModelFENTest {
 
-    /**
-     * Executa antes de cada teste.
-     * Reinicializa a instância única do modelo de xadrez para garantir estado limpo.
-     */
-    @Before
-    public void setup() {
-        ChessModel.resetInstance();
-    }
-
     /**
      * Testa o carregamento e geração de FEN a partir de uma configuração personalizada.
      */
@@ -26,7 +16,7 @@ public class ChessModelFENTest {
         // FEN de exemplo: tabuleiro parcialmente cheio, rei branco e preto, e uma torre
         String fen = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
 
-        ChessModel model = ChessModel.getInstance();
+        ChessModel model = new ChessModel();
         model.loadFEN(fen);
 
         Board board = model.getBoard();
@@ -0,0 +1,84 @@
+package model;
+
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Classe de teste da chave de Zobrist do modelo (getHash).
+ * Verifica que a chave mantida a cada lance é igual à calculada do zero e que identifica a posição.
+ */
+public class ChessModelHashTest {
+
+    private ChessModel model;
+
+    @Before
+    public void setup() {
+        model = new ChessModel();
+    }
+
+    // Percorre dois níveis de lances com roques, en passant e promoções - Resultado esperado: chave sempre igual à calculada do zero
+    @Test(timeout = 2000)
+    public void incrementalHashMatchesRecomputed() {
+        String[] fens = {
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+            "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1"
+        };
+        MoveList first = new MoveList();
+        MoveList second = new MoveList();
+        for (String fen : fens) {
+            model.loadFEN(fen);
+            long root = model.getHash();
+            assertEquals(model.computeHash(), root);
+
+            model.generateLegalMoves(first);
+            for (int i = 0; i < first.size(); i++) {
+                model.makeMove(first.get(i));
+                assertEquals(Move.toString(first.get(i)), model.computeHash(), model.getHash());
+
+                model.generateLegalMoves(second);
+                for (int j = 0; j < second.size(); j++) {
+                    model.makeMove(second.get(j));
+                    assertEquals(model.computeHash(), model.getHash());
+                    model.unmakeMove();
+                }
+                model.unmakeMove();
+            }
+            assertEquals(root, model.getHash());
+        }
+    }
+
+    // Testa a transposição Cf3 Cf6 Cg1 Cg8 - Resultado esperado: mesma chave da posição inicial
+    @Test(timeout = 2000)
+    public void transpositionGivesSameHash() {
+        long start = model.getHash();
+
+        model.makeMove(Move.encode(Bitboards.square(7, 6), Bitboards.square(5, 5), 0, 0)); // Cf3
+        model.makeMove(Move.encode(Bitboards.square(0, 6), Bitboards.square(2, 5), 0, 0)); // Cf6
+        assertNotEquals(start, model.getHash());
+        model.makeMove(Move.encode(Bitboards.square(5, 5), Bitboards.square(7, 6), 0, 0)); // Cg1
+        model.makeMove(Move.encode(Bitboards.square(2, 5), Bitboards.square(0, 6), 0, 0)); // Cg8
+
+        assertEquals(start, model.getHash());
+    }
+
+    // Testa posições que diferem só no lado a jogar, nos roques ou no en passant - Resultado esperado: chaves diferentes
+    @Test(timeout = 2000)
+    public void stateIsPartOfHash() {
+        model.loadFEN("4k3/8/8/3pP3/8/8/8/R3K2R w KQ d6 0 1");
+        long withAll = model.getHash();
+
+        model.loadFEN("4k3/8/8/3pP3/8/8/8/R3K2R w KQ - 0 1");
+        assertNotEquals(withAll, model.getHash());
+
+        model.loadFEN("4k3/8/8/3pP3/8/8/8/R3K2R w K d6 0 1");
+        assertNotEquals(withAll, model.getHash());
+
+        model.loadFEN("4k3/8/8/3pP3/8/8/8/R3K2R b KQ d6 0 1");
+        assertNotEquals(withAll, model.getHash());
+
+        model.loadFEN("4k3/8/8/3pP3/8/8/8/R3K2R w KQ d6 0 1");
+        assertEquals(withAll, model.getHash());
+    }
+}
@@ -0,0 +1,105 @@
+package model;
+
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Classe de teste para o par makeMove / unmakeMove do modelo de xadrez.
+ * Verifica que desfazer um lance restaura exatamente a posição anterior, inclusive nos lances especiais.
+ */
+public class ChessModelMakeUnmakeTest {
+
+    private ChessModel model;
+
+    @Before
+    public void setup() {
+        model = new ChessModel();
+    }
+
+    // Faz e desfaz todos os lances de uma posição com roques, en passant e promoções - Resultado esperado: FEN idêntica
+    @Test(timeout = 2000)
+    public void makeUnmakeRestoresEveryMove() {
+        String[] fens = {
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/Pp2P3/2N2Q1p/1PPBBPPP/R3K2R b KQkq a3 0 1",
+            "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1"
+        };
+        for (String fen : fens) {
+            model.loadFEN(fen);
+            String before = model.generateFEN();
+
+            MoveList moves = new MoveList();
+            MoveGenerator.generate(model.getBoard(), model.isWhiteTurn(), squareOf(fen), ChessModel.CASTLE_ALL, moves);
+            assertTrue(moves.size() > 0);
+
+            for (int i = 0; i < moves.size(); i++) {
+                model.makeMove(moves.get(i));
+                model.unmakeMove();
+                assertEquals("Lance " + Move.toString(moves.get(i)), before, model.generateFEN());
+            }
+        }
+    }
+
+    // Testa o roque feito e desfeito - Resultado esperado: torre em f1 após o lance e de volta em h1 depois
+    @Test(timeout = 2000)
+    public void castlingMovesAndRestoresRook() {
+        model.loadFEN("4k3/8/8/8/8/8/8/4K2R w K - 0 1");
+
+        model.makeMove(Move.encode(60, 62, 0, Move.FLAG_CASTLING));
+        assertEquals("4k3/8/8/8/8/8/8/5RK1 b - - 1 1", model.generateFEN());
+
+        model.unmakeMove();
+        assertEquals("4k3/8/8/8/8/8/8/4K2R w K - 0 1", model.generateFEN());
+    }
+
+    // Testa se a casa do rei acompanha roque, desfazer e carregamento de FEN - Resultado esperado: g1, e1 e a5
+    @Test(timeout = 2000)
+    public void kingSquareTrackedThroughMoves() {
+        model.loadFEN("4k3/8/8/8/8/8/8/4K2R w K - 0 1");
+        Board board = model.getBoard();
+
+        model.makeMove(Move.encode(60, 62, 0, Move.FLAG_CASTLING));
+        assertEquals(62, board.kingSquare(true));
+
+        model.unmakeMove();
+        assertEquals(60, board.kingSquare(true));
+
+        model.loadFEN("8/8/8/KPp4r/8/8/8/7k w - c6 0 1");
+        assertEquals(Bitboards.square(3, 0), model.getBoard().kingSquare(true));
+        assertEquals(Bitboards.square(7, 7), model.getBoard().kingSquare(false));
+    }
+
+    // En passant que expõe o próprio rei na linha - Resultado esperado: captura não listada como válida
+    @Test(timeout = 2000)
+    public void enPassantExposingKingIsIllegal() {
+        model.loadFEN("8/8/8/KPp4r/8/8/8/7k w - c6 0 1");
+
+        for (int[] move : model.getValidMovesForPiece(3, 1)) {
+            assertFalse("bxc6 e.p. deixaria o rei em cheque", move[0] == 2 && move[1] == 2);
+        }
+        assertEquals("Peão ainda pode avançar", 1, model.getValidMovesForPiece(3, 1).size());
+    }
+
+    private int squareOf(String fen) {
+        String ep = fen.split(" ")[3];
+        return ep.equals("-") ? -1 : Bitboards.square('8' - ep.charAt(1), ep.charAt(0) - 'a');
+    }
+
+    // Testa o lance nulo feito e desfeito - Resultado esperado: vez trocada, en passant apagado e posição restaurada
+    @Test(timeout = 2000)
+    public void nullMoveRestoresPosition() {
+        model.loadFEN("r3k2r/p1ppqpb1/bn2pnp1/3PN3/Pp2P3/2N2Q1p/1PPBBPPP/R3K2R b KQkq a3 0 1");
+        String before = model.generateFEN();
+        long hash = model.getHash();
+
+        model.makeNullMove();
+        assertTrue(model.isWhiteTurn());
+        assertNull(model.getEnPassantTarget());
+        assertEquals(model.computeHash(), model.getHash());
+
+        model.unmakeMove();
+        assertEquals(before, model.generateFEN());
+        assertEquals(hash, model.getHash());
+    }
+}
@@ -1,16 +1,10 @@
 package model;
 
 import static org.junit.Assert.*;
-import org.junit.Before;
 import org.junit.Test;
 
 public class ChessModelMateTest {
 
-    @Before
-    public void setup() {
-        ChessModel.resetInstance();
-    }
-
     /**
      * Configura um xeque-mate simples:
      * Rei branco em a1, rei preto em c3, dama preta em b2.
@@ -25,7 +19,7 @@ public class ChessModelMateTest {
         board.setPiece(2, 2, new King(false));    // Rei preto em c3
         board.setPiece(1, 1, new Queen(false));   // Dama preta em b2
 
-        ChessModel model = ChessModel.getInstance();
+        ChessModel model = new ChessModel();
         model.setBoard(board);
 
         // Deve detectar xeque-mate para o jogador branco
@@ -40,14 +34,13 @@ public class ChessModelMateTest {
      */
     @Test
     public void testStaleMatePosition() {
-        ChessModel.resetInstance();           // garante modelo limpo e vez das brancas
         Board board = new Board(true);        // cria tabuleiro vazio
 
         board.setPiece(7, 7, new King(true));   // h1 – rei branco
         board.setPiece(6, 5, new King(false));  // f2 – rei preto               <<< linha correta
         board.setPiece(5, 6, new Queen(false)); // g3 – dama preta              <<< linha correta
 
-        ChessModel model = ChessModel.getInstance();
+        ChessModel model = new ChessModel();
         model.setBoard(board);
 
         assertFalse("Não deve estar em xeque-mate", model.isCheckMate());
@@ -67,7 +60,7 @@ public class ChessModelMateTest {
         board.setPiece(0, 4, new King(false));   // Rei preto em e8
         board.setPiece(6, 4, new Pawn(true));    // Peão branco em e2
 
-        ChessModel model = ChessModel.getInstance();
+        ChessModel model = new ChessModel();
         model.setBoard(board);
 
         assertFalse("Não deve estar em xeque-mate", model.isCheckMate());
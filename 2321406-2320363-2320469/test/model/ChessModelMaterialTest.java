@@ -0,0 +1,79 @@
+package model;
+
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Classe de teste dos contadores de material e do empate por material insuficiente.
+ */
+public class ChessModelMaterialTest {
+
+    private ChessModel model;
+
+    @Before
+    public void setup() {
+        model = new ChessModel();
+    }
+
+    // Testa os contadores na posição inicial e após uma captura - Resultado esperado: saldo 0 e depois +100
+    @Test(timeout = 2000)
+    public void countersFollowCaptures() {
+        Board board = model.getBoard();
+        assertEquals(8, board.pieceCount(Piece.PAWN, false));
+        assertEquals(0, model.getMaterialBalance());
+
+        model.loadFEN("4k3/8/8/3p4/4P3/8/8/4K3 w - - 0 1");
+        model.makeMove(Move.encode(Bitboards.square(4, 4), Bitboards.square(3, 3), 0, Move.FLAG_CAPTURE)); // exd5
+        assertEquals(0, model.getBoard().pieceCount(Piece.PAWN, false));
+        assertEquals(100, model.getMaterialBalance());
+
+        model.unmakeMove();
+        assertEquals(0, model.getMaterialBalance());
+    }
+
+    // Testa a promoção - Resultado esperado: um peão a menos e uma dama a mais
+    @Test(timeout = 2000)
+    public void countersFollowPromotion() {
+        model.loadFEN("4k3/P7/8/8/8/8/8/4K3 w - - 0 1");
+        model.makeMove(Move.encode(Bitboards.square(1, 0), Bitboards.square(0, 0), Piece.QUEEN, 0));
+
+        assertEquals(0, model.getBoard().pieceCount(Piece.PAWN, true));
+        assertEquals(1, model.getBoard().pieceCount(Piece.QUEEN, true));
+        assertEquals(900, model.getMaterialBalance());
+    }
+
+    // Testa as combinações de material insuficiente - Resultado esperado: empate só sem material de mate
+    @Test(timeout = 2000)
+    public void insufficientMaterial() {
+        model.loadFEN("4k3/8/8/8/8/8/8/4K3 w - - 0 1");
+        assertTrue("Rei contra rei", model.isInsufficientMaterial());
+
+        model.loadFEN("4k3/8/8/8/8/8/8/2B1K3 w - - 0 1");
+        assertTrue("Rei e bispo contra rei", model.isInsufficientMaterial());
+
+        model.loadFEN("4k3/8/8/8/8/8/8/1N2K3 w - - 0 1");
+        assertTrue("Rei e cavalo contra rei", model.isInsufficientMaterial());
+
+        model.loadFEN("2b1k3/8/8/8/8/8/8/4KB2 w - - 0 1");
+        assertTrue("Bispos em casas da mesma cor", model.isInsufficientMaterial());
+
+        model.loadFEN("1b2k3/8/8/8/8/8/8/4KB2 w - - 0 1");
+        assertFalse("Bispos em casas de cores diferentes", model.isInsufficientMaterial());
+
+        model.loadFEN("4k3/8/8/8/8/8/8/1NN1K3 w - - 0 1");
+        assertFalse("Dois cavalos", model.isInsufficientMaterial());
+
+        model.loadFEN("4k3/8/8/8/8/8/4P3/4K3 w - - 0 1");
+        assertFalse("Rei e peão contra rei", model.isInsufficientMaterial());
+    }
+
+    // Testa a presença de peças além de rei e peões - Resultado esperado: falso só para o lado com rei e peões
+    @Test(timeout = 2000)
+    public void nonPawnMaterial() {
+        model.loadFEN("4k3/pppp4/8/8/8/8/4P3/3NK3 w - - 0 1");
+
+        assertTrue(model.hasNonPawnMaterial(true));
+        assertFalse(model.hasNonPawnMaterial(false));
+    }
+}
@@ -1,17 +1,11 @@
 package model;
 
 import static org.junit.Assert.*;
-import org.junit.Before;
 import org.junit.Test;
 import java.util.List;
 
 public class ChessModelMovementTest {
 
-    @Before
-    public void setup() {
-        ChessModel.resetInstance();
-    }
-
     @Test(timeout = 2000)
     public void cannotMoveOtherPieceWhileKingInCheck() {
         Board board = new Board(true);
@@ -20,7 +14,7 @@ public class ChessModelMovementTest {
         board.setPiece(6, 3, new Pawn(true));
         board.setPiece(0, 4, new Rook(false));
 
-        ChessModel model = ChessModel.getInstance();
+        ChessModel model = new ChessModel();
         model.setBoard(board);
 
         assertTrue(model.isInCheck(true));
@@ -40,7 +34,7 @@ public class ChessModelMovementTest {
         board.setPiece(6, 3, new Bishop(true));
         board.setPiece(0, 4, new Rook(false));
 
-        ChessModel model = ChessModel.getInstance();
+        ChessModel model = new ChessModel();
         model.setBoard(board);
 
         assertTrue(model.isInCheck(true));
@@ -59,7 +53,7 @@ public class ChessModelMovementTest {
         board.setPiece(0, 4, new King(false));
         board.setPiece(7, 3, new Queen(true));
 
-        ChessModel model = ChessModel.getInstance();
+        ChessModel model = new ChessModel();
         model.setBoard(board);
 
         model.selectPiece(7, 3);
@@ -86,7 +80,7 @@ public class ChessModelMovementTest {
         board.setPiece(7, 7, new King(true));
         board.setPiece(0, 0, new King(false));
 
-        ChessModel model = ChessModel.getInstance();
+        ChessModel model = new ChessModel();
         model.setBoard(board);
 
         List<int[]> moves = model.getValidMovesForPiece(4, 4);
@@ -112,7 +106,7 @@ public class ChessModelMovementTest {
         board.setPiece(7, 7, new King(true));
         board.setPiece(0, 0, new King(false));
 
-        ChessModel model = ChessModel.getInstance();
+        ChessModel model = new ChessModel();
         model.setBoard(board);
 
         List<int[]> moves = model.getValidMovesForPiece(4, 4);
@@ -130,7 +124,7 @@ public class ChessModelMovementTest {
         board.setPiece(7, 4, new King(true));
         board.setPiece(0, 4, new King(false));
 
-        ChessModel model = ChessModel.getInstance();
+        ChessModel model = new ChessModel();
         model.setBoard(board);
 
         assertTrue(model.selectPiece(1, 0));
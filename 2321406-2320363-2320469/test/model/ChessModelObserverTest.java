@@ -3,6 +3,13 @@ package model;
 import static org.junit.Assert.*;
 import org.junit.Before;
 import org.junit.Test;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import observer.Observer;
 import observer.Observable;
 
@@ -17,8 +24,7 @@ public class ChessModelObserverTest {
 
     @Before
     public void setup() {
-        ChessModel.resetInstance();
-        model = ChessModel.getInstance();
+        model = new ChessModel();
         observerNotificado = false;
     }
 
@@ -105,4 +111,71 @@ public class ChessModelObserverTest {
         // Confirma que observer não foi chamado
         assertFalse("Observer não deve ter sido notificado sem alteração de estado", observerNotificado);
     }
+
+    // Testa a entrega assíncrona da promoção (duas notificações seguidas) - Resultado esperado: uma única entrega
+    @Test(timeout = 2000)
+    public void asyncDispatchCoalescesPromotionNotifications() {
+        Board board = new Board(true);
+        board.setPiece(1, 0, new Pawn(true));  // Peão em a7
+        model.setBoard(board);
+        model.setWhiteTurn(true);
+
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        model.setNotificationExecutor(tasks::add);
+        AtomicInteger entregas = new AtomicInteger();
+        model.addObserver(o -> entregas.incrementAndGet());
+
+        assertTrue(model.selectPiece(1, 0));
+        assertTrue(model.selectTargetSquare(0, 0));
+        assertTrue(model.promotePawn("Queen"));
+
+        assertEquals("Nada é entregue antes do executor rodar", 0, entregas.get());
+        assertEquals("As duas notificações viram uma só tarefa", 1, tasks.size());
+        tasks.poll().run();
+        assertEquals(1, entregas.get());
+
+        // Depois da entrega, uma nova mudança agenda uma nova tarefa
+        model.requestShowSaveMenu();
+        assertEquals(1, tasks.size());
+    }
+
+    // Testa um observador lento com entrega assíncrona - Resultado esperado: o lance não espera o observador
+    @Test(timeout = 2000)
+    public void slowObserverDoesNotStallMoves() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch liberar = new CountDownLatch(1);
+        CountDownLatch notificado = new CountDownLatch(1);
+        try {
+            model.setNotificationExecutor(executor);
+            model.addObserver(o -> {
+                try {
+                    liberar.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                notificado.countDown();
+            });
+
+            assertTrue(model.selectPiece(6, 4));
+            assertTrue("Lance feito sem esperar o observador", model.selectTargetSquare(4, 4)); // e4
+            assertFalse(model.isWhiteTurn());
+
+            liberar.countDown();
+            assertTrue(notificado.await(1, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // Testa observadores de partidas diferentes - Resultado esperado: cada um recebe só a sua partida
+    @Test(timeout = 2000)
+    public void observersArePerInstance() {
+        ChessModel outro = new ChessModel();
+        model.addObserver(o -> observerNotificado = true);
+
+        assertTrue(outro.selectPiece(6, 4));
+        assertTrue(outro.selectTargetSquare(4, 4));
+
+        assertFalse("Observer de outra partida não deve ser notificado", observerNotificado);
+    }
 }
@@ -1,7 +1,6 @@
 package model;
 
 import static org.junit.Assert.*;
-import org.junit.Before;
 import org.junit.Test;
 
 /**
@@ -10,15 +9,6 @@ import org.junit.Test;
  */
 public class ChessModelSpecialMovesTest {
 
-    /**
-     * Executa antes de cada teste.
-     * Reinicializa a instância única do modelo de xadrez para garantir estado limpo.
-     */
-    @Before
-    public void setup() {
-        ChessModel.resetInstance();
-    }
-
     // Testa roque pequeno válido para as brancas (rei de e1 para g1)
     @Test(timeout = 2000)
     public void whiteKingsideCastlingValid() {
@@ -30,7 +20,7 @@ public class ChessModelSpecialMovesTest {
         board.setPiece(7, 4, new King(true));  // Rei branco em e1
         board.setPiece(7, 7, new Rook(true));  // Torre branca em h1
 
-        ChessModel model = ChessModel.getInstance();
+        ChessModel model = new ChessModel();
         model.setWhiteTurn(true); // se for o rei branco
         model.setBoard(board);
 
@@ -49,7 +39,7 @@ public class ChessModelSpecialMovesTest {
         board.setPiece(7, 7, new Rook(true));  // Torre branca em h1
         board.setPiece(7, 5, new Knight(true)); // Cavalo bloqueando f1
 
-        ChessModel model = ChessModel.getInstance();
+        ChessModel model = new ChessModel();
         model.setBoard(board);
 
         assertTrue("Roque não deve ser permitido com peça no caminho", model.selectPiece(7, 4));
@@ -70,7 +60,7 @@ public class ChessModelSpecialMovesTest {
         board.setPiece(7, 7, new Rook(true));  // Torre branca em h1
         Position rookPosition = new Position(7, 7); // h1
 
-        ChessModel model = ChessModel.getInstance();
+        ChessModel model = new ChessModel();
         model.setBoard(board);
 
         assertFalse("Tentativa de roque após mover", model.attemptCastling(kingPosition, rookPosition));
@@ -95,7 +85,7 @@ public class ChessModelSpecialMovesTest {
         // Bispo inimigo atacando b4 (7,5)
         board.setPiece(4, 1, new Bishop(false)); // Torre preta em f3
 
-        ChessModel model = ChessModel.getInstance();
+        ChessModel model = new ChessModel();
         model.setBoard(board);
 
         assertTrue("Rei está em cheque", model.isInCheck(true));
@@ -114,7 +104,7 @@ public class ChessModelSpecialMovesTest {
         board.setPiece(3, 4, new Pawn(true));   // Peão branco em e5
         board.setPiece(1, 5, new Pawn(false));  // Peão preto em f7
 
-        ChessModel model = ChessModel.getInstance();
+        ChessModel model = new ChessModel();
         model.setBoard(board);
 
         // Movimento do peão preto: f7 → f5 
@@ -145,7 +135,7 @@ public class ChessModelSpecialMovesTest {
         board.setPiece(3, 4, new Pawn(true));   // Peão branco em e5
         board.setPiece(3, 5, new Pawn(false));  // Peão preto já em f5 (não recém chegado)
 
-        ChessModel model = ChessModel.getInstance();
+        ChessModel model = new ChessModel();
         model.setBoard(board);
 
         // Movimento do peão branco tentando en passant
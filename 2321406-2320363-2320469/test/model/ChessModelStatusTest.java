@@ -0,0 +1,88 @@
+package model;
+
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Classe de teste da situação da partida (GameStatus) e dos lances legais guardados por posição.
+ */
+public class ChessModelStatusTest {
+
+    private ChessModel model;
+
+    @Before
+    public void setup() {
+        model = new ChessModel();
+    }
+
+    // Testa cada situação possível a partir de FEN - Resultado esperado: a situação correspondente
+    @Test(timeout = 2000)
+    public void statusOfEachPosition() {
+        assertEquals(GameStatus.ONGOING, model.getGameStatus());
+
+        model.loadFEN("4k3/8/8/8/8/8/4q3/4K3 w - - 0 1");
+        assertEquals(GameStatus.CHECK, model.getGameStatus());
+
+        model.loadFEN("4k3/8/8/8/8/4q3/4q3/4K3 w - - 0 1");
+        assertEquals(GameStatus.CHECKMATE, model.getGameStatus());
+        assertTrue(model.isCheckMate());
+
+        model.loadFEN("7K/5k2/6q1/8/8/8/8/8 w - - 0 1");
+        assertEquals(GameStatus.STALEMATE, model.getGameStatus());
+        assertTrue(model.isStalelMate());
+
+        model.loadFEN("4k3/8/8/8/8/8/8/2B1K3 w - - 0 1");
+        assertEquals(GameStatus.DRAW_INSUFFICIENT_MATERIAL, model.getGameStatus());
+        assertTrue(model.getGameStatus().isDraw());
+    }
+
+    // Testa os motivos de empate - Resultado esperado: repetição tripla e regra dos 50 lances distinguidas
+    @Test(timeout = 2000)
+    public void drawReasons() {
+        int[] shuffle = {
+            Move.encode(Bitboards.square(7, 6), Bitboards.square(5, 5), 0, 0), // Cf3
+            Move.encode(Bitboards.square(0, 6), Bitboards.square(2, 5), 0, 0), // Cf6
+            Move.encode(Bitboards.square(5, 5), Bitboards.square(7, 6), 0, 0), // Cg1
+            Move.encode(Bitboards.square(2, 5), Bitboards.square(0, 6), 0, 0)  // Cg8
+        };
+        for (int i = 0; i < 2; i++) {
+            for (int move : shuffle) model.makeMove(move);
+        }
+        assertEquals(GameStatus.DRAW_REPETITION, model.getGameStatus());
+
+        model.loadFEN("4k3/8/8/8/8/8/8/R3K3 w - - 100 80");
+        assertEquals(GameStatus.DRAW_FIFTY_MOVES, model.getGameStatus());
+        assertTrue(model.getGameStatus().isDraw());
+        assertFalse(GameStatus.STALEMATE.isDraw());
+
+        // Mate no centésimo meio-lance: o mate prevalece sobre a regra dos 50 lances
+        model.loadFEN("7k/6Q1/5K2/8/8/8/8/8 b - - 100 80");
+        assertEquals(GameStatus.CHECKMATE, model.getGameStatus());
+    }
+
+    // Testa se a situação acompanha lances feitos e desfeitos - Resultado esperado: mate após Dh4#, andamento ao desfazer
+    @Test(timeout = 2000)
+    public void statusInvalidatedByMoves() {
+        model.loadFEN("rnbqkbnr/pppp1ppp/8/4p3/6P1/5P2/PPPPP2P/RNBQKBNR b KQkq - 0 2");
+        assertEquals(GameStatus.ONGOING, model.getGameStatus());
+
+        model.makeMove(Move.encode(Bitboards.square(0, 3), Bitboards.square(4, 7), 0, 0)); // Dh4#
+        assertEquals(GameStatus.CHECKMATE, model.getGameStatus());
+
+        model.unmakeMove();
+        assertEquals(GameStatus.ONGOING, model.getGameStatus());
+    }
+
+    // Testa a troca direta de uma peça no tabuleiro depois de consultar os lances - Resultado esperado: lances recalculados
+    @Test(timeout = 2000)
+    public void directBoardEditInvalidatesMoves() {
+        MoveList moves = new MoveList();
+        model.getValidMoves(6, 4, moves);
+        assertEquals(2, moves.size()); // e3 e e4
+
+        model.getBoard().setPiece(5, 4, new Knight(false)); // cavalo preto em e3 bloqueia o peão
+        model.getValidMoves(6, 4, moves);
+        assertEquals(0, moves.size());
+    }
+}
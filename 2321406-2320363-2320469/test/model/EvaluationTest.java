@@ -0,0 +1,81 @@
+package model;
+
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Classe de teste da avaliação estática com tabelas de peça-casa (Evaluation).
+ */
+public class EvaluationTest {
+
+    private ChessModel model;
+
+    @Before
+    public void setup() {
+        model = new ChessModel();
+    }
+
+    // Testa a posição inicial (simétrica) - Resultado esperado: avaliação 0
+    @Test(timeout = 2000)
+    public void initialPositionIsBalanced() {
+        assertEquals(0, Evaluation.evaluate(model));
+    }
+
+    // Testa a posição espelhada com as cores trocadas - Resultado esperado: mesma avaliação para o jogador da vez
+    @Test(timeout = 2000)
+    public void colorSymmetry() {
+        model.loadFEN("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+        int white = Evaluation.evaluate(model);
+        model.loadFEN("r3k2r/pppbbppp/2n2q1P/1P2p3/3pn3/BN2PNP1/P1PPQPB1/R3K2R b KQkq - 0 1");
+
+        assertEquals(white, Evaluation.evaluate(model));
+        assertEquals(-white, Evaluation.evaluateForWhite(model));
+    }
+
+    // Testa a avaliação incremental durante vários lances e retornos - Resultado esperado: igual ao cálculo do zero
+    @Test(timeout = 2000)
+    public void incrementalMatchesFromScratch() {
+        model.loadFEN("r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1");
+        MoveList moves = new MoveList();
+        model.generateLegalMoves(moves);
+        int before = Evaluation.evaluateForWhite(model);
+
+        for (int i = 0; i < moves.size(); i++) {
+            model.makeMove(moves.get(i));
+            assertEquals("Lance " + Move.toString(moves.get(i)),
+                Evaluation.evaluateFromScratch(model.getBoard()), Evaluation.evaluateForWhite(model));
+            model.unmakeMove();
+        }
+        assertEquals(before, Evaluation.evaluateForWhite(model));
+    }
+
+    // Testa a fase da partida - Resultado esperado: 24 no início e 0 só com reis e peões
+    @Test(timeout = 2000)
+    public void gamePhase() {
+        assertEquals(PieceSquareTables.MAX_PHASE, model.getBoard().phase());
+
+        model.loadFEN("4k3/pppp4/8/8/8/8/4PPPP/4K3 w - - 0 1");
+        assertEquals(0, model.getBoard().phase());
+    }
+
+    // Testa um peão a mais - Resultado esperado: avaliação positiva para quem tem o peão
+    @Test(timeout = 2000)
+    public void extraPawnIsBetter() {
+        model.loadFEN("4k3/8/8/8/8/8/4P3/4K3 w - - 0 1");
+        assertTrue(Evaluation.evaluate(model) > 50);
+
+        model.loadFEN("4k3/8/8/8/8/8/4P3/4K3 b - - 0 1");
+        assertTrue(Evaluation.evaluate(model) < -50);
+    }
+
+    // Testa o cavalo no centro contra o cavalo no canto - Resultado esperado: centro vale mais
+    @Test(timeout = 2000)
+    public void centralKnightIsBetter() {
+        model.loadFEN("4k3/8/8/8/3N4/8/8/4K3 w - - 0 1");
+        int center = Evaluation.evaluate(model);
+        model.loadFEN("4k3/8/8/8/8/8/8/N3K3 w - - 0 1");
+
+        assertTrue(center > Evaluation.evaluate(model));
+    }
+}
@@ -0,0 +1,69 @@
+package model;
+
+import static org.junit.Assert.*;
+import java.util.Random;
+import org.junit.Test;
+
+// Testa as tabelas de ataque das peças deslizantes (Magics) contra um cálculo casa a casa.
+public class MagicsTest {
+
+    // Testa a torre em a8 no tabuleiro vazio - Resultado esperado: 14 casas atacadas
+    @Test(timeout = 2000)
+    public void testRookOnEmptyBoard() {
+        assertEquals(14, Long.bitCount(Magics.rookAttacks(0, 0L)));
+    }
+
+    // Testa o bispo em d4 bloqueado em f6 - Resultado esperado: f6 atacada, g7 não
+    @Test(timeout = 2000)
+    public void testBishopStopsAtFirstBlocker() {
+        int d4 = Bitboards.square(4, 3);
+        long f6 = Bitboards.bit(Bitboards.square(2, 5));
+        long g7 = Bitboards.bit(Bitboards.square(1, 6));
+
+        long attacks = Magics.bishopAttacks(d4, f6);
+        assertTrue("f6 deve estar atacada", (attacks & f6) != 0);
+        assertTrue("g7 fica atrás do bloqueio", (attacks & g7) == 0);
+        assertEquals(11, Long.bitCount(attacks));
+    }
+
+    // Compara as tabelas com o percurso raio a raio em ocupações aleatórias - Resultado esperado: iguais
+    @Test(timeout = 2000)
+    public void testTablesMatchRayWalk() {
+        Random random = new Random(42);
+        for (int i = 0; i < 200; i++) {
+            long occupied = random.nextLong() & random.nextLong();
+            for (int square = 0; square < 64; square++) {
+                assertEquals(walk(square, occupied, true), Magics.rookAttacks(square, occupied));
+                assertEquals(walk(square, occupied, false), Magics.bishopAttacks(square, occupied));
+            }
+        }
+    }
+
+    // Testa a API que devolve o conjunto inteiro de ataques de uma peça - Resultado esperado: 27 casas para a dama em d4
+    @Test(timeout = 2000)
+    public void testPieceAttackSet() {
+        Board board = new Board(true);
+        Queen queen = new Queen(true);
+        board.setPiece(4, 3, queen);
+
+        assertEquals(27, Long.bitCount(queen.getAttacks(new Position(4, 3), board)));
+    }
+
+    private long walk(int square, long occupied, boolean straight) {
+        int[][] dirs = straight ? new int[][] {{-1, 0}, {1, 0}, {0, -1}, {0, 1}}
+                                : new int[][] {{-1, -1}, {-1, 1}, {1, -1}, {1, 1}};
+        long attacks = 0L;
+        for (int[] d : dirs) {
+            int r = Bitboards.row(square) + d[0];
+            int c = Bitboards.col(square) + d[1];
+            while (r >= 0 && r < 8 && c >= 0 && c < 8) {
+                long b = Bitboards.bit(Bitboards.square(r, c));
+                attacks |= b;
+                if ((occupied & b) != 0) break;
+                r += d[0];
+                c += d[1];
+            }
+        }
+        return attacks;
+    }
+}
@@ -0,0 +1,159 @@
+package model;
+
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+// Testa o gerador de movimentos (MoveGenerator) a partir dos bitboards, pseudolegal e legal.
+public class MoveGeneratorTest {
+
+    private MoveList moves;
+
+    @Before
+    public void prepare() {
+        moves = new MoveList();
+    }
+
+    // Testa a posição inicial - Resultado esperado: 20 movimentos para cada lado
+    @Test(timeout = 2000)
+    public void testInitialPositionMoveCount() {
+        Board board = new Board(false);
+
+        MoveGenerator.generate(board, true, -1, ChessModel.CASTLE_ALL, moves);
+        assertEquals(20, moves.size());
+
+        moves.clear();
+        MoveGenerator.generate(board, false, -1, ChessModel.CASTLE_ALL, moves);
+        assertEquals(20, moves.size());
+    }
+
+    // Testa se só as casas alcançáveis são emitidas para uma torre bloqueada - Resultado esperado: 2 casas
+    @Test(timeout = 2000)
+    public void testOnlyReachableSquaresAreGenerated() {
+        Board board = new Board(true);
+        board.setPiece(7, 0, new Rook(true));   // a1
+        board.setPiece(6, 0, new Pawn(true));   // a2 bloqueia a coluna
+        board.setPiece(7, 2, new Knight(false)); // c1 pode ser capturado
+
+        MoveGenerator.generateForPiece(board, Bitboards.square(7, 0), -1, ChessModel.CASTLE_ALL, moves);
+
+        assertEquals(2, moves.size());
+    }
+
+    // Testa en passant e roque como destinos gerados - Resultado esperado: f6 para o peão e g1/c1 para o rei
+    @Test(timeout = 2000)
+    public void testSpecialMoveTargets() {
+        Board board = new Board(true);
+        board.setPiece(3, 4, new Pawn(true));   // e5
+        board.setPiece(3, 5, new Pawn(false));  // f5
+        board.setPiece(7, 4, new King(true));   // e1
+        board.setPiece(7, 7, new Rook(true));   // h1
+        board.setPiece(7, 0, new Rook(true));   // a1
+
+        MoveGenerator.generateForPiece(board, Bitboards.square(3, 4), Bitboards.square(2, 5), ChessModel.CASTLE_ALL, moves);
+        assertTrue(contains(Bitboards.square(2, 5)));
+
+        moves.clear();
+        MoveGenerator.generateForPiece(board, Bitboards.square(7, 4), -1, ChessModel.CASTLE_ALL, moves);
+        assertTrue(contains(Bitboards.square(7, 6)));
+        assertTrue(contains(Bitboards.square(7, 2)));
+    }
+
+    // Testa a codificação das promoções - Resultado esperado: quatro lances com flag de captura, dama primeiro
+    @Test(timeout = 2000)
+    public void testPromotionsAreEncoded() {
+        Board board = new Board(true);
+        board.setPiece(1, 0, new Pawn(true));    // a7
+        board.setPiece(0, 1, new Rook(false));   // b8
+        board.setPiece(0, 0, new Knight(false)); // a8 bloqueia o avanço
+
+        MoveGenerator.generateForPiece(board, Bitboards.square(1, 0), -1, ChessModel.CASTLE_ALL, moves);
+
+        assertEquals(4, moves.size());
+        assertEquals(Piece.QUEEN, Move.promotion(moves.get(0)));
+        assertTrue(Move.isCapture(moves.get(0)));
+        assertEquals("a7b8q", Move.toString(moves.get(0)));
+    }
+
+    // Compara o gerador legal com o filtro antigo (fazer o lance, testar o cheque e desfazer)
+    // em posições com cravadas, cheques, roques, en passant e promoções - Resultado esperado: mesmos lances
+    @Test(timeout = 2000)
+    public void testLegalGeneratorMatchesMakeUnmakeFilter() {
+        String[] fens = {
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+            "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+            "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8",
+            "8/8/8/KPp4r/8/8/8/7k w - c6 0 2",
+            "4k3/8/8/8/8/8/3n4/R3K2R w KQ - 0 1"
+        };
+        ChessModel model = new ChessModel();
+        for (String fen : fens) {
+            model.loadFEN(fen);
+            boolean isWhite = model.isWhiteTurn();
+            Position ep = model.getEnPassantTarget();
+            int epSquare = ep == null ? -1 : ep.toSquare();
+
+            MoveList pseudo = new MoveList();
+            MoveGenerator.generate(model.getBoard(), isWhite, epSquare, ChessModel.CASTLE_ALL, pseudo);
+            int expected = 0;
+            for (int i = 0; i < pseudo.size(); i++) {
+                int move = pseudo.get(i);
+                boolean legal;
+                if (Move.isCastling(move)) {
+                    int rook = Move.to(move) > Move.from(move) ? Move.from(move) + 3 : Move.from(move) - 4;
+                    legal = model.attemptCastling(Position.of(Move.from(move)), Position.of(rook));
+                } else {
+                    model.makeMove(move);
+                    legal = !model.isInCheck(isWhite);
+                    model.unmakeMove();
+                }
+                if (legal) {
+                    expected++;
+                }
+            }
+
+            model.generateLegalMoves(moves);
+            assertEquals(fen, expected, moves.size());
+        }
+    }
+
+    // Testa uma torre cravada pelo bispo adversário - Resultado esperado: nenhum lance para a torre
+    @Test(timeout = 2000)
+    public void testPinnedPieceCannotLeavePinLine() {
+        Board board = new Board(true);
+        board.setPiece(7, 4, new King(true));    // e1
+        board.setPiece(6, 5, new Rook(true));    // f2 cravada na diagonal
+        board.setPiece(5, 6, new Bishop(false)); // g3
+
+        MoveGenerator.generateLegalForPiece(board, Bitboards.square(6, 5), -1, 0, moves);
+        assertEquals(0, moves.size());
+
+        // Uma dama cravada pode capturar o bispo que a crava
+        board.setPiece(6, 5, new Queen(true));
+        MoveGenerator.generateLegalForPiece(board, Bitboards.square(6, 5), -1, 0, moves);
+        assertEquals(1, moves.size());
+        assertEquals(Bitboards.square(5, 6), Move.to(moves.get(0)));
+    }
+
+    // Testa o en passant que exporia o rei na horizontal - Resultado esperado: só o avanço simples
+    @Test(timeout = 2000)
+    public void testEnPassantHorizontalPin() {
+        Board board = new Board(true);
+        board.setPiece(3, 0, new King(true));    // a5
+        board.setPiece(3, 1, new Pawn(true));    // b5
+        board.setPiece(3, 2, new Pawn(false));   // c5 (acabou de avançar duas casas)
+        board.setPiece(3, 7, new Rook(false));   // h5
+
+        MoveGenerator.generateLegalForPiece(board, Bitboards.square(3, 1), Bitboards.square(2, 2), 0, moves);
+        assertEquals(1, moves.size());
+        assertFalse(Move.isEnPassant(moves.get(0)));
+    }
+
+    private boolean contains(int to) {
+        for (int i = 0; i < moves.size(); i++) {
+            if (Move.to(moves.get(i)) == to) return true;
+        }
+        return false;
+    }
+}
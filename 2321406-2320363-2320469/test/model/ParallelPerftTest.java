@@ -0,0 +1,56 @@
+package model;
+
+import static org.junit.Assert.*;
+import java.util.Map;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Classe de teste do perft paralelo (ParallelPerft).
+ * Verifica que a divisão em tarefas e a tabela compartilhada não alteram as contagens.
+ */
+public class ParallelPerftTest {
+
+    private ChessModel model;
+    private ParallelPerft perft;
+
+    @Before
+    public void setup() {
+        model = new ChessModel();
+        perft = new ParallelPerft(4, 8);
+    }
+
+    @After
+    public void tearDown() {
+        perft.shutdown();
+    }
+
+    // Testa as posições de referência com quatro threads - Resultado esperado: mesmos totais do perft serial
+    @Test(timeout = 2000)
+    public void matchesSerialCounts() {
+        for (int p = 0; p < Perft.SUITE_FENS.length; p++) {
+            model.loadFEN(Perft.SUITE_FENS[p]);
+            int depth = Perft.SUITE_NODES[p][2] > 100_000 ? 2 : 3;
+            assertEquals(Perft.SUITE_NAMES[p], Perft.SUITE_NODES[p][depth - 1], perft.perft(model, depth));
+        }
+    }
+
+    // Testa a divisão também no segundo nível (profundidade 5) - Resultado esperado: 674624 nós na posição 3
+    @Test(timeout = 2000)
+    public void secondPlySplit() {
+        model.loadFEN(Perft.SUITE_FENS[2]);
+        assertEquals(674624, perft.perft(model, 5));
+    }
+
+    // Testa o divide paralelo - Resultado esperado: igual ao divide serial, posição original intacta
+    @Test(timeout = 2000)
+    public void divideMatchesSerial() {
+        model.loadFEN(Perft.SUITE_FENS[1]);
+        String before = model.generateFEN();
+
+        Map<String, Long> serial = new Perft(model).divide(3);
+        assertEquals(serial, perft.divide(model, 3));
+        assertEquals(before, model.generateFEN());
+    }
+}
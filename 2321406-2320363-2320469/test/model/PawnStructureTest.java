@@ -0,0 +1,126 @@
+package model;
+
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Classe de teste da estrutura de peões (PawnStructure) e da tabela de peões (PawnHashTable).
+ */
+public class PawnStructureTest {
+
+    private ChessModel model;
+
+    @Before
+    public void setup() {
+        model = new ChessModel();
+    }
+
+    private int pawnTerms(String fen) {
+        model.loadFEN(fen);
+        Board board = model.getBoard();
+        return PawnStructure.evaluate(board.pieces(Piece.PAWN, true), board.pieces(Piece.PAWN, false));
+    }
+
+    private int findMove(String text) {
+        MoveList moves = new MoveList();
+        model.generateLegalMoves(moves);
+        for (int i = 0; i < moves.size(); i++) {
+            if (Move.toString(moves.get(i)).equals(text)) return moves.get(i);
+        }
+        throw new IllegalArgumentException(text);
+    }
+
+    // Testa a posição inicial - Resultado esperado: termos de peões nulos e nenhum peão passado
+    @Test(timeout = 2000)
+    public void initialPositionIsNeutral() {
+        assertEquals(0, pawnTerms("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1"));
+        Board board = model.getBoard();
+        assertEquals(0L, PawnStructure.passedPawns(board.pieces(Piece.PAWN, true), board.pieces(Piece.PAWN, false)));
+    }
+
+    // Testa peões dobrados e isolados das brancas contra uma estrutura sadia - Resultado esperado: avaliação negativa nos dois termos
+    @Test(timeout = 2000)
+    public void doubledAndIsolatedArePenalized() {
+        int score = pawnTerms("4k3/ppp5/8/8/8/8/P1P1P3/4K3 w - - 0 1");
+        assertTrue(PawnStructure.mg(score) < 0);
+        assertTrue(PawnStructure.eg(score) < 0);
+
+        int doubled = pawnTerms("4k3/ppp5/8/8/8/1P6/1PP5/4K3 w - - 0 1");
+        assertTrue(PawnStructure.eg(doubled) < 0);
+    }
+
+    // Testa um peão passado das brancas na sétima linha - Resultado esperado: detectado como passado e com bônus maior que na terceira
+    @Test(timeout = 2000)
+    public void passedPawnByRank() {
+        int advanced = pawnTerms("4k3/1P6/8/8/8/8/7p/4K3 w - - 0 1");
+        Board board = model.getBoard();
+        long passed = PawnStructure.passedPawns(board.pieces(Piece.PAWN, true), board.pieces(Piece.PAWN, false));
+        assertTrue((passed & Bitboards.bit(Bitboards.square(1, 1))) != 0);
+
+        int behind = pawnTerms("4k3/8/8/8/8/1P6/7p/4K3 w - - 0 1");
+        assertTrue(PawnStructure.eg(advanced) > PawnStructure.eg(behind));
+    }
+
+    // Testa um peão com um peão adversário à frente na coluna vizinha - Resultado esperado: não é passado
+    @Test(timeout = 2000)
+    public void blockedSpanIsNotPassed() {
+        pawnTerms("4k3/8/2p5/8/1P6/8/8/4K3 w - - 0 1");
+        Board board = model.getBoard();
+        assertEquals(0L, PawnStructure.passedPawns(board.pieces(Piece.PAWN, true), board.pieces(Piece.PAWN, false)));
+    }
+
+    // Testa o empacotamento de meio-jogo e final - Resultado esperado: valores negativos recuperados sem perda
+    @Test(timeout = 2000)
+    public void packRoundTrip() {
+        int packed = PawnStructure.pack(-37, 150) + PawnStructure.pack(12, -200);
+        assertEquals(-25, PawnStructure.mg(packed));
+        assertEquals(-50, PawnStructure.eg(packed));
+    }
+
+    // Testa a chave de peões durante lances e retornos - Resultado esperado: igual à chave de uma posição montada do zero
+    @Test(timeout = 2000)
+    public void pawnKeyIsIncremental() {
+        model.loadFEN("r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1");
+        long before = model.getBoard().pawnKey();
+        MoveList moves = new MoveList();
+        model.generateLegalMoves(moves);
+
+        for (int i = 0; i < moves.size(); i++) {
+            model.makeMove(moves.get(i));
+            assertEquals("Lance " + Move.toString(moves.get(i)),
+                model.getBoard().copy().pawnKey(), model.getBoard().pawnKey());
+            model.unmakeMove();
+        }
+        assertEquals(before, model.getBoard().pawnKey());
+    }
+
+    // Testa lances de peça que não mexem nos peões - Resultado esperado: chave de peões inalterada
+    @Test(timeout = 2000)
+    public void pieceMovesKeepPawnKey() {
+        long before = model.getBoard().pawnKey();
+        model.makeMove(findMove("g1f3"));
+        assertEquals(before, model.getBoard().pawnKey());
+        model.makeMove(findMove("e7e5"));
+        assertNotEquals(before, model.getBoard().pawnKey());
+    }
+
+    // Testa a tabela de peões com e sem cache - Resultado esperado: mesma avaliação, acerto na segunda consulta e entradas mantidas ao zerar as estatísticas
+    @Test(timeout = 2000)
+    public void tableMatchesDirectEvaluation() {
+        PawnHashTable table = new PawnHashTable(8);
+        model.loadFEN("r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10");
+
+        assertEquals(Evaluation.evaluate(model), Evaluation.evaluate(model, table));
+        assertEquals(0, table.getHits());
+        assertEquals(Evaluation.evaluate(model), Evaluation.evaluate(model, table));
+        assertEquals(1, table.getHits());
+        assertEquals(500, table.hitRatePermille());
+
+        // Zerar as estatísticas mantém as entradas: a próxima consulta já acerta
+        table.resetStats();
+        assertEquals(0, table.getProbes());
+        Evaluation.evaluate(model, table);
+        assertEquals(1000, table.hitRatePermille());
+    }
+}
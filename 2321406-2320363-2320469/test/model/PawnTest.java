@@ -33,4 +33,15 @@ public class PawnTest {
 
         assertFalse("Peão não pode mover para trás", whitePawn.isValidMove(from, to, board));
     }
+
+    // Testa a captura en passant com a casa alvo informada pela partida - Resultado esperado: true só com o alvo
+    @Test(timeout = 2000)
+    public void enPassantUsesGivenTarget() {
+        Position from = new Position(3, 4); // e5
+        Position to = new Position(2, 3);   // d6 (vazia)
+        board.setPiece(3, 3, new Pawn(false)); // peão preto em d5 que acabou de avançar
+
+        assertFalse("Sem casa de en passant não há captura", whitePawn.isValidMove(from, to, board));
+        assertTrue("Captura en passant em d6", whitePawn.isValidMove(from, to, board, to));
+    }
 }
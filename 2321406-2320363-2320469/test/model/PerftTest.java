@@ -0,0 +1,62 @@
+package model;
+
+import static org.junit.Assert.*;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Classe de teste de regressão do gerador de movimentos pela contagem de nós (Perft).
+ * Compara as posições de referência com os totais conhecidos em profundidades rápidas.
+ */
+public class PerftTest {
+
+    private ChessModel model;
+    private Perft perft;
+
+    @Before
+    public void setup() {
+        model = new ChessModel();
+        perft = new Perft(model);
+    }
+
+    // Testa a posição inicial até a profundidade 3 - Resultado esperado: 20, 400 e 8902 nós
+    @Test(timeout = 2000)
+    public void startPosition() {
+        model.loadFEN(Perft.START_FEN);
+        assertEquals(20, perft.perft(1));
+        assertEquals(400, perft.perft(2));
+        assertEquals(8902, perft.perft(3));
+    }
+
+    // Testa todas as posições de referência nas profundidades com até ~100 mil nós - Resultado esperado: totais conhecidos
+    @Test(timeout = 2000)
+    public void referenceSuite() {
+        for (int p = 0; p < Perft.SUITE_FENS.length; p++) {
+            model.loadFEN(Perft.SUITE_FENS[p]);
+            for (int depth = 1; depth <= Perft.SUITE_NODES[p].length; depth++) {
+                long expected = Perft.SUITE_NODES[p][depth - 1];
+                if (expected > 100_000) break;
+                assertEquals(Perft.SUITE_NAMES[p] + " profundidade " + depth, expected, perft.perft(depth));
+            }
+        }
+    }
+
+    // Testa o divide no Kiwipete - Resultado esperado: 48 lances na raiz somando 2039 nós, posição restaurada
+    @Test(timeout = 2000)
+    public void divideSumsToPerft() {
+        model.loadFEN(Perft.SUITE_FENS[1]);
+        String before = model.generateFEN();
+
+        Map<String, Long> divide = perft.divide(2);
+        long total = 0;
+        for (long nodes : divide.values()) {
+            total += nodes;
+        }
+
+        assertEquals(48, divide.size());
+        assertEquals(2039, total);
+        assertEquals(Long.valueOf(43), divide.get("e1g1"));
+        assertEquals(before, model.generateFEN());
+    }
+}
@@ -0,0 +1,103 @@
+package model;
+
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Classe de teste da avaliação estática de trocas (StaticExchange).
+ */
+public class StaticExchangeTest {
+
+    private ChessModel model;
+    private MoveList moves;
+
+    @Before
+    public void setup() {
+        model = new ChessModel();
+        moves = new MoveList();
+    }
+
+    private int see(String fen, String move) {
+        model.loadFEN(fen);
+        model.generateLegalMoves(moves);
+        for (int i = 0; i < moves.size(); i++) {
+            if (Move.toString(moves.get(i)).equals(move)) {
+                return StaticExchange.evaluate(model, moves.get(i));
+            }
+        }
+        throw new IllegalArgumentException(move);
+    }
+
+    // Testa o mesmo vetor de trabalho reaproveitado em trocas diferentes - Resultado esperado: mesmos valores da versão sem vetor
+    @Test(timeout = 2000)
+    public void reusedGainBuffer() {
+        String[][] cases = {
+            {"4k3/8/2p5/3p4/8/8/8/3QK3 w - - 0 1", "d1d5"},
+            {"4k3/8/8/3r4/8/8/8/3QK3 w - - 0 1", "d1d5"},
+            {"4k3/8/2p5/3n4/8/4N3/8/4K3 w - - 0 1", "e3d5"}
+        };
+        int[] gain = new int[StaticExchange.GAIN_BUFFER_SIZE];
+        for (String[] c : cases) {
+            int expected = see(c[0], c[1]);
+            for (int i = 0; i < moves.size(); i++) {
+                if (Move.toString(moves.get(i)).equals(c[1])) {
+                    assertEquals(expected, StaticExchange.evaluate(model, moves.get(i), gain));
+                }
+            }
+        }
+    }
+
+    // Testa a captura de uma peça indefesa - Resultado esperado: ganho igual ao valor da torre
+    @Test(timeout = 2000)
+    public void undefendedPiece() {
+        assertEquals(500, see("4k3/8/8/3r4/8/8/8/3QK3 w - - 0 1", "d1d5"));
+    }
+
+    // Testa dama capturando peão defendido por peão - Resultado esperado: perde a dama pelo peão (-800)
+    @Test(timeout = 2000)
+    public void queenTakesDefendedPawn() {
+        assertEquals(-800, see("4k3/8/2p5/3p4/8/8/8/3QK3 w - - 0 1", "d1d5"));
+    }
+
+    // Testa cavalo capturando cavalo defendido - Resultado esperado: troca igual (0)
+    @Test(timeout = 2000)
+    public void equalTrade() {
+        assertEquals(0, see("4k3/8/2p5/3n4/8/4N3/8/4K3 w - - 0 1", "e3d5"));
+    }
+
+    // Testa torres dobradas (raio X) contra peão defendido por torre - Resultado esperado: ganha o peão (100)
+    @Test(timeout = 2000)
+    public void xRayAttackerJoinsExchange() {
+        assertEquals(100, see("3rk3/8/8/3p4/8/8/3R4/3RK3 w - - 0 1", "d2d5"));
+    }
+
+    // Testa o rei recapturando numa casa defendida - Resultado esperado: o rei não retoma e o saldo é 320 - 100
+    @Test(timeout = 2000)
+    public void kingDoesNotRecaptureIntoDefence() {
+        assertEquals(220, see("3rk3/8/8/1b6/8/3n4/2P1K3/8 w - - 0 1", "c2d3"));
+    }
+
+    // Testa o rei podendo retomar numa casa livre - Resultado esperado: as pretas preferem não recapturar (320)
+    @Test(timeout = 2000)
+    public void kingRecaptureMakesDefenderStop() {
+        assertEquals(320, see("4k3/8/8/1b6/8/3n4/2P1K3/8 w - - 0 1", "c2d3"));
+    }
+
+    // Testa captura en passant indefesa - Resultado esperado: ganha o peão (100)
+    @Test(timeout = 2000)
+    public void enPassant() {
+        assertEquals(100, see("4k3/8/8/3pP3/8/8/8/4K3 w - d6 0 1", "e5d6"));
+    }
+
+    // Testa isAtLeast com a torre indefesa - Resultado esperado: verdadeiro até 500 e falso acima
+    @Test(timeout = 2000)
+    public void thresholdCheck() {
+        model.loadFEN("4k3/8/8/3r4/8/8/8/3QK3 w - - 0 1");
+        model.generateLegalMoves(moves);
+        int capture = moves.find(59, 27);
+
+        assertTrue(StaticExchange.isAtLeast(model, capture, 500));
+        assertFalse(StaticExchange.isAtLeast(model, capture, 501));
+    }
+}